@@ -0,0 +1,44 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Realistic benchmark inputs.
+ */
+final class BenchmarkInputs {
+    static final String SHORT_NAME = "Jonas";
+    static final String EMAIL = "jonas.jonaitis+news@example.co.uk";
+    static final String NON_LATIN = "Юргайтис Иван 王小明 Ąžuolas";
+    static final String PASSWORD = "Correct-Horse7Battery";
+    static final String PASTE_10K = buildPaste(10000);
+
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * Gets the input by name, names are used as JMH parameters.
+     */
+    static String get(String name) {
+        switch (name) {
+            case "SHORT_NAME":
+                return SHORT_NAME;
+            case "EMAIL":
+                return EMAIL;
+            case "NON_LATIN":
+                return NON_LATIN;
+            case "PASSWORD":
+                return PASSWORD;
+            case "PASTE_10K":
+                return PASTE_10K;
+            default:
+                throw new IllegalArgumentException(name);
+        }
+    }
+
+    private static String buildPaste(int length) {
+        String words = "Lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor ";
+        StringBuilder paste = new StringBuilder(length);
+        while (paste.length() < length) {
+            paste.append(words, 0, Math.min(words.length(), length - paste.length()));
+        }
+        return paste.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.jurgaitis.validationedittext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of BulkValidator with the fork-join pool parallelism, on an imported contact list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkValidatorBenchmark {
+    private static final int ROWS = 200000;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private BulkValidator bulkValidator;
+    private List<String> rows;
+    private ValidationPlan.Evaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        ValidationPlan plan = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.EMAIL, ValidationRule.MAX_LENGTH))
+                .setMaxLength(64)
+                .build();
+        pool = new ForkJoinPool(parallelism);
+        bulkValidator = new BulkValidator(plan, pool, 1024);
+        evaluator = plan.newEvaluator();
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(i % 10 == 0 ? "invalid address " + i : "contact" + i + "@example.com");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public byte[] bulk() {
+        return bulkValidator.validate(rows);
+    }
+
+    /**
+     * Single thread loop, the baseline of the bulk validation.
+     */
+    @Benchmark
+    public int sequentialLoop() {
+        int invalid = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (evaluator.validate(rows.get(i)) != null) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+}
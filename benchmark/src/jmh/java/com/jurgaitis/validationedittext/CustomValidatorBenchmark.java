@@ -0,0 +1,131 @@
+package com.jurgaitis.validationedittext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+/**
+ * Throughput of every CustomValidator rule.
+ */
+@State(Scope.Thread)
+public class CustomValidatorBenchmark {
+    @Param({"SHORT_NAME", "EMAIL", "NON_LATIN", "PASSWORD", "PASTE_10K"})
+    public String input;
+
+    private CustomValidator validator;
+    private String value;
+    private Pattern postalCodePattern;
+    private Pattern customPattern;
+
+    @Setup
+    public void setUp() {
+        validator = new CustomValidator();
+        value = BenchmarkInputs.get(input);
+        postalCodePattern = RegexCache.get(PostalCodeRegex.LITHUANIA);
+        customPattern = RegexCache.get("[A-Z]{2}");
+    }
+
+    @Benchmark
+    public boolean isNotEmpty() {
+        return validator.isNotEmpty(value);
+    }
+
+    @Benchmark
+    public boolean isEmail() {
+        return validator.isEmail(value);
+    }
+
+    @Benchmark
+    public boolean isOnlyLetters() {
+        return validator.isOnlyLetters(value);
+    }
+
+    @Benchmark
+    public boolean isOnlyLettersWithSpaces() {
+        return validator.isOnlyLettersWithSpaces(value);
+    }
+
+    @Benchmark
+    public boolean isOnlyLatinLetters() {
+        return validator.isOnlyLatinLetters(value);
+    }
+
+    @Benchmark
+    public boolean isOnlyLatinLetterWithSpaces() {
+        return validator.isOnlyLatinLetterWithSpaces(value);
+    }
+
+    @Benchmark
+    public boolean isAlphanumeric() {
+        return validator.isAlphanumeric(value);
+    }
+
+    @Benchmark
+    public boolean isOnlyDigits() {
+        return validator.isOnlyDigits(value);
+    }
+
+    @Benchmark
+    public boolean isLessThanOrEqualToTheMaxLength() {
+        return validator.isLessThanOrEqualToTheMaxLength(value, 32);
+    }
+
+    @Benchmark
+    public boolean isGreaterThanOrEqualToMinLength() {
+        return validator.isGreaterThanOrEqualToMinLength(value, 3);
+    }
+
+    @Benchmark
+    public boolean isLowercase() {
+        return validator.isLowercase(value);
+    }
+
+    @Benchmark
+    public boolean isUppercase() {
+        return validator.isUppercase(value);
+    }
+
+    @Benchmark
+    public boolean hasAtLeastOneLowercase() {
+        return validator.hasAtLeastOneLowercase(value);
+    }
+
+    @Benchmark
+    public boolean hasAtLeastOneUppercase() {
+        return validator.hasAtLeastOneUppercase(value);
+    }
+
+    @Benchmark
+    public boolean hasAtLeastOneDigit() {
+        return validator.hasAtLeastOneDigit(value);
+    }
+
+    @Benchmark
+    public boolean hasAtLeastOneSpecialCharacter() {
+        return validator.hasAtLeastOneSpecialCharacter(value);
+    }
+
+    @Benchmark
+    public boolean hasAtLeastOneLetter() {
+        return validator.hasAtLeastOneLetter(value);
+    }
+
+    @Benchmark
+    public boolean isValidPostalCode() {
+        return validator.isValidPostalCode(value, postalCodePattern);
+    }
+
+    @Benchmark
+    public boolean isOnlyCustomRegex() {
+        return validator.isOnlyCustomRegex(value, customPattern);
+    }
+
+    @Benchmark
+    public boolean hasAtLeastOneCustomRegex() {
+        return validator.hasAtLeastOneCustomRegex(value, customPattern);
+    }
+}
@@ -0,0 +1,63 @@
+package com.jurgaitis.validationedittext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+/**
+ * EmailValidator state machine compared with the android.util.Patterns.EMAIL_ADDRESS regex.
+ */
+@State(Scope.Thread)
+public class EmailBenchmark {
+    private static final Pattern EMAIL_ADDRESS = Pattern.compile(
+            "[a-zA-Z0-9\\+\\.\\_\\%\\-\\+]{1,256}" +
+                    "\\@" +
+                    "[a-zA-Z0-9][a-zA-Z0-9\\-]{0,64}" +
+                    "(" +
+                    "\\." +
+                    "[a-zA-Z0-9][a-zA-Z0-9\\-]{0,25}" +
+                    ")+"
+    );
+
+    @Param({"VALID", "TYPING", "LONG_DOMAIN"})
+    public String input;
+
+    private String value;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+            case "VALID":
+                value = BenchmarkInputs.EMAIL;
+                break;
+            case "TYPING":
+                value = "jonas.jonaitis+news@exam";
+                break;
+            default:
+                StringBuilder builder = new StringBuilder("jonas@");
+                for (int i = 0; i < 40; i++) {
+                    builder.append("a-b.");
+                }
+                value = builder.append('-').toString();
+        }
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return EMAIL_ADDRESS.matcher(value).matches();
+    }
+
+    @Benchmark
+    public boolean stateMachine() {
+        return EmailValidator.isValid(value);
+    }
+
+    @Benchmark
+    public boolean stateMachineRfc5321() {
+        return EmailValidator.isValid(value, EmailValidator.Strictness.RFC_5321);
+    }
+}
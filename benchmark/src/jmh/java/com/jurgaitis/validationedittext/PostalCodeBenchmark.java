@@ -0,0 +1,88 @@
+package com.jurgaitis.validationedittext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+/**
+ * Postal code validation of every PostalCodeRegex country with a postal code format.
+ * Each operation checks the same set of typical postal codes.
+ */
+@State(Scope.Thread)
+public class PostalCodeBenchmark {
+    private static final String[] POSTAL_CODES = {
+            "12345", "LT-12345", "1234", "SW1A 1AA", "AD100", "12345-678", "K1A 0B1", "123-4567", "00-950"
+    };
+
+    @Param({
+            "AFGHANISTAN", "ALAND_ISLANDS", "ALBANIA", "ALGERIA", "AMERICAN_SAMOA", "ANDORRA", "ANGUILLA",
+            "ARGENTINA", "ARMENIA", "ASCENSION_ISLAND", "AUSTRALIA", "AUSTRIA", "AZERBAIJAN", "BAHRAIN",
+            "BANGLADESH", "BARBADOS", "BELARUS", "BELGIUM", "BERMUDA", "BHUTAN", "BOLIVIA",
+            "BOSNIA_AND_HERZEGOVINA", "BRAZIL", "BRITISH_ANTARCTIC_TERRITORY",
+            "BRITISH_INDIAN_OCEAN_TERRITORY", "BRITISH_VIRGIN_ISLANDS", "BRUNEI", "BULGARIA", "CAMBODIA",
+            "CANADA", "CAPE_VERDE", "CAYMAN_ISLANDS", "CHAD", "CHILE", "CHINA", "CHRISTMAS_ISLAND",
+            "COCOS_KEELING_ISLAND", "COLOMBIA", "CONGO_DEMOCRATIC_REPUBLIC", "COSTA_RICA", "CROATIA", "CUBA",
+            "CYPRUS", "CZECH_REPUBLIC", "DENMARK", "DOMINICAN_REPUBLIC", "ECUADOR", "EL_SALVADOR", "EGYPT",
+            "ESTONIA", "ETHIOPIA", "FALKLAND_ISLANDS", "FAROE_ISLANDS", "FINLAND", "FRANCE", "FRENCH_GUIANA",
+            "FRENCH_POLYNESIA", "GABON", "GEORGIA", "GERMANY", "GIBRALTAR", "GREECE", "GREENLAND",
+            "GUADELOUPE", "GUAM", "GUATEMALA", "GUERNSEY", "GUINEA_BISSAU", "HAITI",
+            "HEARD_AND_MCDONALD_ISLANDS", "HONDURAS", "HUNGARY", "ICELAND", "INDIA", "INDONESIA", "IRAN",
+            "IRAQ", "ISLE_OF_MAN", "ISRAEL", "ITALY", "JAMAICA", "JAPAN", "JERSEY", "JORDAN", "KAZAKHSTAN",
+            "KENYA", "KOREA_SOUTH", "KOSOVO", "KUWAIT", "KYRGYZSTAN", "LATVIA", "LAOS", "LEBANON", "LESOTHO",
+            "LIBERIA", "LIBYA", "LIECHTENSTEIN", "LITHUANIA", "LUXEMBOURG", "MACEDONIA", "MADAGASCAR",
+            "MALDIVES", "MALAYSIA", "MALTA", "MARSHALL_ISLANDS", "MARTINIQUE", "MAYOTTE", "MICRONESIA",
+            "MICRONESIA", "MEXICO", "MICRONESIA", "MOLDOVA", "MONACO", "MONGOLIA", "MONTENEGRO", "MONTSERRAT",
+            "MOROCCO", "MOZAMBIQUE", "MYANMAR", "NAMIBIA", "NEPAL", "NETHERLANDS", "NEW_CALEDONIA",
+            "NEW_ZEALAND", "NICARAGUA", "NIGER", "NIGERIA", "NORFOLK_ISLAND", "NORTHERN_MARIANA_ISLANDS",
+            "NORWAY", "OMAN", "PAKISTAN", "PALAU", "PANAMA", "PAPUA_NEW_GUINEA", "PARAGUAY", "PERU",
+            "PHILIPPINES", "PITCAIRN_ISLANDS", "POLAND", "PORTUGAL", "PORTUGAL", "PORTUGAL", "PUERTO_RICO",
+            "REUNION", "ROMANIA", "RUSSIA", "SAINT_BARTHELEMY", "SAINT_HELENA", "SAINT_MARTIN",
+            "SAINT_PIERRE_AND_MIQUELON", "SAINT_VINCENT_AND_THE_GRENADINES", "SAN_MARINO", "SAUDI_ARABIA",
+            "SENEGAL", "SERBIA", "SERBIA", "SINGAPORE", "SINGAPORE", "SINGAPORE", "SINGAPORE", "SINGAPORE",
+            "SLOVAKIA", "SLOVENIA", "SOUTH_AFRICA", "SOUTH_GEORGIA_AND_THE_SOUTH_SANDWICH_ISLANDS",
+            "SOUTH_KOREA", "SPAIN", "SRI_LANKA", "SUDAN", "SWAZILAND", "SWEDEN", "SWITZERLAND",
+            "SVALBARD_AND_JAN_MAYEN", "TAIWAN", "TAJIKISTAN", "THAILAND", "TRINIDAD_AND_TOBAGO",
+            "TRISTAN_DA_CUNHA", "TUNISIA", "TURKEY", "TURKMENISTAN", "TURKS_AND_CAICOS_ISLANDS", "UKRAINE",
+            "UNITED_KINGDOM", "UNITED_STATES", "URUGUAY", "US_VIRGIN_ISLANDS", "UZBEKISTAN", "VATICAN",
+            "VENEZUELA", "VIETNAM", "WALLIS_AND_FUTUNA", "ZAMBIA"
+    })
+    public String country;
+
+    private String regex;
+    private Pattern pattern;
+
+    @Setup
+    public void setUp() throws Exception {
+        regex = (String) PostalCodeRegex.class.getField(country).get(null);
+        pattern = RegexCache.get(regex);
+    }
+
+    @Benchmark
+    public int precompiled() {
+        int matches = 0;
+        for (String postalCode : POSTAL_CODES) {
+            if (pattern.matcher(postalCode).matches()) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Regex is compiled on every check, as setPostalCodeRegex(String) did before RegexCache.
+     */
+    @Benchmark
+    public int compiledPerCall() {
+        int matches = 0;
+        for (String postalCode : POSTAL_CODES) {
+            if (Pattern.matches(regex, postalCode)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
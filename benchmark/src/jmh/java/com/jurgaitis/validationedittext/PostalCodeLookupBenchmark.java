@@ -0,0 +1,54 @@
+package com.jurgaitis.validationedittext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reverse postal code lookup: which countries does the typed value match.
+ * Index lookup is compared with running every precompiled country pattern one after another.
+ */
+@State(Scope.Thread)
+public class PostalCodeLookupBenchmark {
+    @Param({"12345", "1234", "97133", "LT-12345", "SW1A 1AA", "12345-6789", "K1A 0B1", "hello"})
+    public String postalCode;
+
+    private Pattern[] patterns;
+
+    @Setup
+    public void setUp() {
+        List<Pattern> countryPatterns = new ArrayList<>();
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                String countryCode = new String(new char[]{first, second});
+                if (PostalCodeValidator.isPostalCodeRequired(countryCode)) {
+                    countryPatterns.add(PostalCodeValidator.getPattern(countryCode));
+                }
+            }
+        }
+        patterns = countryPatterns.toArray(new Pattern[0]);
+        PostalCodeValidator.findCountries(postalCode);
+    }
+
+    @Benchmark
+    public int naiveLoop() {
+        int matches = 0;
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(postalCode).matches()) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int index() {
+        return PostalCodeValidator.findCountries(postalCode).size();
+    }
+}
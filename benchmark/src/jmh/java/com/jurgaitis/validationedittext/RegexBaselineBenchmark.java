@@ -0,0 +1,59 @@
+package com.jurgaitis.validationedittext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+/**
+ * Per call cost of the original implementation (regex compiled on every call) compared with a
+ * precompiled pattern and with the CharacterClasses scanner, which CustomValidator uses now.
+ */
+@State(Scope.Thread)
+public class RegexBaselineBenchmark {
+    private static final Pattern ONLY_LETTERS = Pattern.compile("\\p{L}+");
+    private static final Pattern DIGIT = Pattern.compile(".*\\d.*");
+
+    @Param({"SHORT_NAME", "NON_LATIN", "PASSWORD", "PASTE_10K"})
+    public String input;
+
+    private String value;
+
+    @Setup
+    public void setUp() {
+        value = BenchmarkInputs.get(input);
+    }
+
+    @Benchmark
+    public boolean onlyLetters_compiledPerCall() {
+        return Pattern.matches("\\p{L}+", value);
+    }
+
+    @Benchmark
+    public boolean onlyLetters_precompiled() {
+        return ONLY_LETTERS.matcher(value).matches();
+    }
+
+    @Benchmark
+    public boolean onlyLetters_scanner() {
+        return CharacterClasses.isOnlyLetters(CharacterClasses.scan(value));
+    }
+
+    @Benchmark
+    public boolean atLeastOneDigit_compiledPerCall() {
+        return Pattern.compile(".*\\d.*").matcher(value).find();
+    }
+
+    @Benchmark
+    public boolean atLeastOneDigit_precompiled() {
+        return DIGIT.matcher(value).find();
+    }
+
+    @Benchmark
+    public boolean atLeastOneDigit_scanner() {
+        return CharacterClasses.hasAtLeastOneDigit(CharacterClasses.scan(value));
+    }
+}
@@ -0,0 +1,94 @@
+package com.jurgaitis.validationedittext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Full validate() rule chain, as ValidationEditText runs it on every keystroke.
+ */
+@State(Scope.Thread)
+public class ValidationPlanBenchmark {
+    @Param({"NAME", "EMAIL", "PASSWORD", "ALL"})
+    public String rules;
+
+    @Param({"SHORT_NAME", "EMAIL", "NON_LATIN", "PASSWORD", "PASTE_10K"})
+    public String input;
+
+    private String value;
+    private ValidationPlan plan;
+    private ValidationPlan.Evaluator evaluator;
+    private ValidationPlan.Evaluator costOrderedEvaluator;
+    private CharacterClassCounter counter;
+    private StringBuilder editable;
+
+    @Setup
+    public void setUp() {
+        value = BenchmarkInputs.get(input);
+        ValidationPlan.Builder builder = new ValidationPlan.Builder()
+                .setRules(rulesMask(rules))
+                .setMaxLength(64)
+                .setMinLength(8)
+                .setPostalCodePattern(RegexCache.get(PostalCodeRegex.LITHUANIA))
+                .setOnlyCustomPattern(RegexCache.get("[\\p{L}\\s\\-]+"))
+                .setAtLeastOnePattern(RegexCache.get("[!@#$%^&*]"));
+        plan = builder.build();
+        evaluator = plan.newEvaluator();
+        costOrderedEvaluator = builder.setCostOrdered(true).build().newEvaluator();
+        counter = new CharacterClassCounter();
+        editable = new StringBuilder(value.length() + 1).append(value);
+    }
+
+    @Benchmark
+    public ValidationRule validate() {
+        return evaluator.validate(value);
+    }
+
+    @Benchmark
+    public ValidationRule validate_costOrdered() {
+        return costOrderedEvaluator.validate(value);
+    }
+
+    @Benchmark
+    public ValidationRule validate_newEvaluator() {
+        return plan.validate(value);
+    }
+
+    /**
+     * One typed and one deleted character, validated with incremental character class counters.
+     */
+    @Benchmark
+    public ValidationRule keystroke_incremental() {
+        int length = editable.length();
+        counter.beforeTextChanged(editable, length, 0, 1);
+        editable.append('x');
+        counter.onTextChanged(editable, length, 0, 1);
+        evaluator.validate(editable, counter.summary(editable));
+
+        counter.beforeTextChanged(editable, length, 1, 0);
+        editable.setLength(length);
+        counter.onTextChanged(editable, length, 1, 0);
+        return evaluator.validate(editable, counter.summary(editable));
+    }
+
+    private static int rulesMask(String rules) {
+        switch (rules) {
+            case "NAME":
+                return ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.ONLY_LETTERS_WITH_SPACES,
+                        ValidationRule.MAX_LENGTH);
+            case "EMAIL":
+                return ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.EMAIL, ValidationRule.MAX_LENGTH);
+            case "PASSWORD":
+                return ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.MIN_LENGTH,
+                        ValidationRule.MAX_LENGTH, ValidationRule.AT_LEAST_ONE_LOWERCASE,
+                        ValidationRule.AT_LEAST_ONE_UPPERCASE, ValidationRule.AT_LEAST_ONE_DIGIT,
+                        ValidationRule.AT_LEAST_ONE_SPECIAL_CHARACTER);
+            case "ALL":
+                return ValidationRule.mask(ValidationRule.values());
+            default:
+                throw new IllegalArgumentException(rules);
+        }
+    }
+}
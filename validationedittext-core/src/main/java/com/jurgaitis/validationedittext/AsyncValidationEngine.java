@@ -0,0 +1,462 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs validation off the main thread.
+ * <p>
+ * Every submitted validation gets a generation number. Only the result of the newest generation is
+ * delivered: runs of superseded text are skipped if they have not started yet, and their results are
+ * dropped if they have. Results are delivered through the result executor, which posts to the main
+ * thread on Android.
+ * <p>
+ * Plans with a {@link RegexGuard} timeout run on the guarded executor, not the validation executor.
+ * On Android the matcher copies the text, so a runaway match cannot be aborted: when the timeout
+ * passes, a timed out result is delivered from the timeout scheduler and the engine stops waiting for
+ * that run. The run keeps its guarded thread until the match ends, but validations of other plans
+ * are not blocked by it, and its late result is dropped.
+ * <p>
+ * Runaway matches are never stopped, so the guarded executor can be exhausted. The same plan and text
+ * are not run again, while a run of them is queued or running: the new validation gets the result of
+ * that run or its own timeout. When the guarded executor rejects a run, a timed out result is delivered
+ * at once.
+ */
+public final class AsyncValidationEngine {
+    private static final int GUARDED_THREADS = 4;
+    private static final int GUARDED_QUEUE_CAPACITY = 16;
+    // guarded runs, which are queued or running, shared by all engines
+    private static final Map<InFlightKey, Run> IN_FLIGHT = new HashMap<>();
+
+    private final Executor validationExecutor;
+    private final Executor guardedExecutor;
+    private final Executor resultExecutor;
+    private final TypingDebouncer.Scheduler timeoutScheduler;
+    private final Clock clock;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    // timeout callback of the last guarded submit, used on the result thread only
+    private Runnable pendingTimeout;
+
+    /**
+     * Validation result callback, called on the result executor.
+     */
+    public interface Callback {
+        /**
+         * @param result        interned result of the submitted plan, see {@link ValidationPlan#getResult(ValidationRule)}
+         * @param failures      all failed rules, if they were requested, otherwise null. Failures of a timed
+         *                      out result hold only the timed out rule
+         * @param timedOut      guarded regex check ran out of its budget, result is its failure
+         * @param latencyMillis time from the submit to the delivery of the result
+         */
+        void onValidationResult(ValidationResult result, ValidationFailures failures, boolean timedOut,
+                                long latencyMillis);
+    }
+
+    /**
+     * Creates engine without the timeout scheduler: guarded plans run on {@link #guardedExecutor()},
+     * but only the matcher itself can abort a runaway match, which it cannot do on Android.
+     *
+     * @param validationExecutor executor, which runs validations, for example {@link #sharedExecutor()}
+     * @param resultExecutor     executor, which delivers results, main thread on Android
+     * @param clock              monotonic clock
+     */
+    public AsyncValidationEngine(Executor validationExecutor, Executor resultExecutor, Clock clock) {
+        this(validationExecutor, guardedExecutor(), resultExecutor, null, clock);
+    }
+
+    /**
+     * @param validationExecutor executor, which runs validations, for example {@link #sharedExecutor()}
+     * @param guardedExecutor    executor, which runs plans with a regex guard timeout, for example
+     *                           {@link #guardedExecutor()}
+     * @param resultExecutor     executor, which delivers results, main thread on Android
+     * @param timeoutScheduler   scheduler on the result thread, which delivers timed out results,
+     *                           Handler of the main thread on Android, or null
+     * @param clock              monotonic clock
+     */
+    public AsyncValidationEngine(Executor validationExecutor, Executor guardedExecutor, Executor resultExecutor,
+                                 TypingDebouncer.Scheduler timeoutScheduler, Clock clock) {
+        this.validationExecutor = validationExecutor;
+        this.guardedExecutor = guardedExecutor;
+        this.resultExecutor = resultExecutor;
+        this.timeoutScheduler = timeoutScheduler;
+        this.clock = clock;
+    }
+
+    /**
+     * Submits the text for validation. Results of the previously submitted texts are not delivered anymore.
+     * Call from the result thread, when the engine has a timeout scheduler.
+     *
+     * @param plan     validation plan
+     * @param text     text to be checked, snapshot of it is validated
+     * @param callback result callback
+     * @return generation of this validation
+     */
+    public int submit(ValidationPlan plan, CharSequence text, Callback callback) {
+        return submit(plan, text, false, callback);
+    }
+
+    /**
+     * Submits the text for validation. Results of the previously submitted texts are not delivered anymore.
+     * Call from the result thread, when the engine has a timeout scheduler.
+     *
+     * @param plan        validation plan
+     * @param text        text to be checked, snapshot of it is validated
+     * @param allFailures check every rule and deliver all failures, see
+     *                    {@link ValidationPlan.Evaluator#evaluateAll(CharSequence)}
+     * @param callback    result callback
+     * @return generation of this validation
+     */
+    public int submit(ValidationPlan plan, CharSequence text, boolean allFailures, Callback callback) {
+        String snapshot = text.toString();
+        int submitGeneration = generation.incrementAndGet();
+        long submitTime = clock.uptimeMillis();
+        submittedCount.incrementAndGet();
+        cancelTimeout();
+        RegexGuard guard = plan.getRegexGuard();
+        if (guard == null || guard.getTimeoutMillis() == 0) {
+            validationExecutor.execute(new Run(plan, snapshot, null, allFailures, callback, submitGeneration,
+                    submitTime));
+            return submitGeneration;
+        }
+        Run run = new Run(plan, snapshot, new InFlightKey(plan, snapshot, allFailures), allFailures, callback,
+                submitGeneration, submitTime);
+        if (timeoutScheduler != null) {
+            pendingTimeout = run.timeout;
+            timeoutScheduler.postAtTime(run.timeout, submitTime + guard.getTimeoutMillis());
+        }
+        if (joinInFlight(run)) {
+            return submitGeneration;
+        }
+        try {
+            guardedExecutor.execute(run);
+        } catch (RejectedExecutionException e) {
+            cancelTimeout();
+            for (Run rejected : run.leaveInFlight()) {
+                rejected.reject();
+            }
+            run.reject();
+        }
+        return submitGeneration;
+    }
+
+    /**
+     * Makes the run wait for the queued or running run of the same plan and text, or registers it as
+     * the run of them.
+     *
+     * @return true if the run waits for another run
+     */
+    private static boolean joinInFlight(Run run) {
+        synchronized (IN_FLIGHT) {
+            Run owner = IN_FLIGHT.get(run.key);
+            if (owner == null) {
+                IN_FLIGHT.put(run.key, run);
+                return false;
+            }
+            if (owner.waiters == null) {
+                owner.waiters = new ArrayList<>();
+            }
+            for (int i = owner.waiters.size() - 1; i >= 0; i--) {
+                if (owner.waiters.get(i).isSuperseded()) {
+                    owner.waiters.remove(i);
+                }
+            }
+            owner.waiters.add(run);
+            return true;
+        }
+    }
+
+    /**
+     * Drops all pending validations.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        cancelTimeout();
+    }
+
+    private void cancelTimeout() {
+        if (pendingTimeout != null) {
+            timeoutScheduler.removeCallbacks(pendingTimeout);
+            pendingTimeout = null;
+        }
+    }
+
+    /**
+     * @return generation of the last submitted validation
+     */
+    public int getGeneration() {
+        return generation.get();
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * @return count of validations, which were skipped or whose results were dropped as stale
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return count of timed out results, which were delivered by the timeout scheduler or because the
+     * guarded executor rejected the run
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    /**
+     * @return count of guarded runs, which were rejected by the guarded executor
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private boolean isStale(int submitGeneration) {
+        if (submitGeneration != generation.get()) {
+            droppedCount.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the executor shared by all engines: two daemon threads, created on first use.
+     *
+     * @return shared validation executor
+     */
+    public static Executor sharedExecutor() {
+        return SharedExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Gets the executor of the guarded plans shared by all engines: up to four daemon threads and up to
+     * sixteen queued runs, created on first use. Runaway matches, which cannot be aborted, hold only these
+     * threads, but they hold them until the match ends: a few catastrophic patterns exhaust the executor
+     * and then guarded validations of the whole process are rejected and time out.
+     *
+     * @return shared guarded executor
+     */
+    public static Executor guardedExecutor() {
+        return GuardedExecutorHolder.EXECUTOR;
+    }
+
+    private static Executor createExecutor(int threads, int queueCapacity, final String name) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(queueCapacity), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class SharedExecutorHolder {
+        static final Executor EXECUTOR = createExecutor(2, Integer.MAX_VALUE, "ValidationEditText-");
+    }
+
+    private static final class GuardedExecutorHolder {
+        static final Executor EXECUTOR = createExecutor(GUARDED_THREADS, GUARDED_QUEUE_CAPACITY,
+                "ValidationEditText-guarded-");
+    }
+
+    /**
+     * Plan, text and failures request of a guarded run, plan is compared by identity.
+     */
+    private static final class InFlightKey {
+        final ValidationPlan plan;
+        final String text;
+        final boolean allFailures;
+
+        InFlightKey(ValidationPlan plan, String text, boolean allFailures) {
+            this.plan = plan;
+            this.text = text;
+            this.allFailures = allFailures;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof InFlightKey)) {
+                return false;
+            }
+            InFlightKey other = (InFlightKey) o;
+            return plan == other.plan && allFailures == other.allFailures && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(plan) + text.hashCode()) + (allFailures ? 1 : 0);
+        }
+    }
+
+    /**
+     * Single submitted validation. Its result is delivered once: by the run or by the timeout,
+     * whichever comes first on the result thread.
+     */
+    private final class Run implements Runnable {
+        final ValidationPlan plan;
+        final String text;
+        // null, if the run is not guarded
+        final InFlightKey key;
+        final boolean allFailures;
+        final Callback callback;
+        final int submitGeneration;
+        final long submitTime;
+        final ValidationPlan.Evaluator evaluator;
+        // runs of the same plan and text, which wait for this run, guarded by IN_FLIGHT
+        List<Run> waiters;
+        // used on the result thread only
+        boolean delivered;
+
+        final Runnable timeout = new Runnable() {
+            @Override
+            public void run() {
+                if (pendingTimeout == this) {
+                    pendingTimeout = null;
+                }
+                if (delivered || isStale(submitGeneration)) {
+                    return;
+                }
+                ValidationRule rule = evaluator.getGuardedRule();
+                if (rule == null) {
+                    rule = plan.getGuardedRule();
+                }
+                ValidationResult result = plan.getResult(rule);
+                timedOutCount.incrementAndGet();
+                // rules after the runaway one are not checked yet, so only it is reported as failed
+                deliver(result, allFailures ? new ValidationFailures(plan, rule.mask(), result) : null, true);
+            }
+        };
+
+        Run(ValidationPlan plan, String text, InFlightKey key, boolean allFailures, Callback callback,
+            int submitGeneration, long submitTime) {
+            this.plan = plan;
+            this.text = text;
+            this.key = key;
+            this.allFailures = allFailures;
+            this.callback = callback;
+            this.submitGeneration = submitGeneration;
+            this.submitTime = submitTime;
+            this.evaluator = plan.newEvaluator();
+        }
+
+        @Override
+        public void run() {
+            if (isSuperseded() && leaveInFlightIfAlone()) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            ValidationFailures failures = null;
+            ValidationResult result;
+            if (allFailures) {
+                failures = evaluator.evaluateAll(text);
+                result = failures.getFirst();
+            } else {
+                result = evaluator.evaluate(text);
+            }
+            boolean timedOut = evaluator.isTimedOut();
+            for (Run waiter : leaveInFlight()) {
+                waiter.complete(result, failures, timedOut);
+            }
+            complete(result, failures, timedOut);
+        }
+
+        boolean isSuperseded() {
+            return submitGeneration != generation.get();
+        }
+
+        /**
+         * @return true if no run waits for this run and it is not in flight anymore
+         */
+        private boolean leaveInFlightIfAlone() {
+            if (key == null) {
+                return true;
+            }
+            synchronized (IN_FLIGHT) {
+                if (waiters != null && !waiters.isEmpty()) {
+                    return false;
+                }
+                IN_FLIGHT.remove(key);
+                return true;
+            }
+        }
+
+        /**
+         * @return runs, which waited for this run
+         */
+        List<Run> leaveInFlight() {
+            if (key == null) {
+                return Collections.emptyList();
+            }
+            synchronized (IN_FLIGHT) {
+                if (IN_FLIGHT.get(key) == this) {
+                    IN_FLIGHT.remove(key);
+                }
+                List<Run> waiters = this.waiters;
+                this.waiters = null;
+                return waiters != null ? waiters : Collections.<Run>emptyList();
+            }
+        }
+
+        void reject() {
+            rejectedCount.incrementAndGet();
+            resultExecutor.execute(timeout);
+        }
+
+        void complete(final ValidationResult result, final ValidationFailures failures, final boolean timedOut) {
+            if (isStale(submitGeneration)) {
+                return;
+            }
+            resultExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (delivered) {
+                        // timed out result was delivered already
+                        droppedCount.incrementAndGet();
+                        return;
+                    }
+                    if (isStale(submitGeneration)) {
+                        return;
+                    }
+                    if (pendingTimeout == timeout) {
+                        cancelTimeout();
+                    }
+                    deliver(result, failures, timedOut);
+                }
+            });
+        }
+
+        void deliver(ValidationResult result, ValidationFailures failures, boolean timedOut) {
+            delivered = true;
+            deliveredCount.incrementAndGet();
+            callback.onValidationResult(result, failures, timedOut, clock.uptimeMillis() - submitTime);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validates large batches of values with one ValidationPlan, spread across cores with fork-join.
+ * <p>
+ * Result of every row is a single byte: ordinal of the first failed ValidationRule or {@link #VALID}.
+ * Use {@link #getFailedRule(byte)} to get the rule back.
+ * <p>
+ * On Android ForkJoinPool is available from API 21. On older versions values are validated on the
+ * calling thread, see {@link #isParallelAvailable()}.
+ */
+public final class BulkValidator {
+    /**
+     * Row result, when the value is valid
+     */
+    public static final byte VALID = -1;
+
+    private static final int DEFAULT_BATCH_SIZE = 512;
+    private static final int ITERATOR_CHUNK_SIZE = 65536;
+    private static final int INITIAL_CHUNK_SIZE = 16;
+    private static final ValidationRule[] RULES = ValidationRule.values();
+
+    private final ValidationPlan plan;
+    // null - validate on the calling thread
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final int iteratorChunkSize;
+
+    /**
+     * Creates bulk validator, which runs on the shared pool with one thread per core, or on the calling
+     * thread, if fork-join is not available.
+     *
+     * @param plan validation plan
+     */
+    public BulkValidator(ValidationPlan plan) {
+        this(plan, isParallelAvailable() ? SharedPoolHolder.POOL : null, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param plan      validation plan
+     * @param pool      fork-join pool, which runs validations, or null to validate on the calling thread
+     * @param batchSize count of rows validated by a single task
+     */
+    public BulkValidator(ValidationPlan plan, ForkJoinPool pool, int batchSize) {
+        this(plan, pool, batchSize, ITERATOR_CHUNK_SIZE);
+    }
+
+    BulkValidator(ValidationPlan plan, ForkJoinPool pool, int batchSize, int iteratorChunkSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize <= 0");
+        }
+        this.plan = plan;
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.iteratorChunkSize = iteratorChunkSize;
+    }
+
+    /**
+     * Checks if ForkJoinPool is available, on Android it is from API 21.
+     *
+     * @return true if values can be validated in parallel
+     */
+    public static boolean isParallelAvailable() {
+        return ParallelCheckHolder.AVAILABLE;
+    }
+
+    /**
+     * Validates the values.
+     *
+     * @param values values to be checked
+     * @return result of every row, see {@link #getFailedRule(byte)}
+     */
+    public byte[] validate(CharSequence[] values) {
+        byte[] results = new byte[values.length];
+        validate(values, results, 0, values.length);
+        return results;
+    }
+
+    /**
+     * Validates the values.
+     *
+     * @param values values to be checked
+     * @return result of every row, see {@link #getFailedRule(byte)}
+     */
+    public byte[] validate(List<? extends CharSequence> values) {
+        if (!(values instanceof RandomAccess)) {
+            return validate(values.iterator());
+        }
+        byte[] results = new byte[values.size()];
+        if (pool == null) {
+            ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+            for (int i = 0; i < results.length; i++) {
+                results[i] = toResult(evaluator.validate(values.get(i)));
+            }
+            return results;
+        }
+        pool.invoke(new ListTask(values, results, 0, values.size()));
+        return results;
+    }
+
+    /**
+     * Validates the values. Values are read in chunks, so the whole input is never held in memory.
+     * Chunk grows up to its max size, so a short input does not allocate a full chunk.
+     *
+     * @param values values to be checked
+     * @return result of every row, see {@link #getFailedRule(byte)}
+     */
+    public byte[] validate(Iterator<? extends CharSequence> values) {
+        CharSequence[] chunk = new CharSequence[Math.min(INITIAL_CHUNK_SIZE, iteratorChunkSize)];
+        byte[] results = new byte[chunk.length];
+        int count = 0;
+        while (values.hasNext()) {
+            int chunkSize = 0;
+            while (chunkSize < iteratorChunkSize && values.hasNext()) {
+                if (chunkSize == chunk.length) {
+                    chunk = Arrays.copyOf(chunk, Math.min(chunk.length * 2, iteratorChunkSize));
+                }
+                chunk[chunkSize++] = values.next();
+            }
+            if (count + chunkSize > results.length) {
+                results = Arrays.copyOf(results, Math.max(results.length * 2, count + chunkSize));
+            }
+            validate(chunk, results, count, chunkSize);
+            count += chunkSize;
+        }
+        Arrays.fill(chunk, null);
+        return count == results.length ? results : Arrays.copyOf(results, count);
+    }
+
+    /**
+     * Gets the failed rule of the row result.
+     *
+     * @param result row result
+     * @return failed rule or null, if the row is valid
+     */
+    public static ValidationRule getFailedRule(byte result) {
+        return result == VALID ? null : RULES[result];
+    }
+
+    public ValidationPlan getPlan() {
+        return plan;
+    }
+
+    private void validate(CharSequence[] values, byte[] results, int resultsOffset, int count) {
+        if (pool == null) {
+            ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+            for (int i = 0; i < count; i++) {
+                results[resultsOffset + i] = toResult(evaluator.validate(values[i]));
+            }
+            return;
+        }
+        pool.invoke(new ArrayTask(values, results, resultsOffset, 0, count));
+    }
+
+    private static byte toResult(ValidationRule failedRule) {
+        return failedRule == null ? VALID : (byte) failedRule.ordinal();
+    }
+
+    private final class ArrayTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final CharSequence[] values;
+        private final byte[] results;
+        private final int resultsOffset;
+        private final int from;
+        private final int to;
+
+        ArrayTask(CharSequence[] values, byte[] results, int resultsOffset, int from, int to) {
+            this.values = values;
+            this.results = results;
+            this.resultsOffset = resultsOffset;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+                for (int i = from; i < to; i++) {
+                    results[resultsOffset + i] = toResult(evaluator.validate(values[i]));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ArrayTask(values, results, resultsOffset, from, middle),
+                    new ArrayTask(values, results, resultsOffset, middle, to));
+        }
+    }
+
+    private final class ListTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends CharSequence> values;
+        private final byte[] results;
+        private final int from;
+        private final int to;
+
+        ListTask(List<? extends CharSequence> values, byte[] results, int from, int to) {
+            this.values = values;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+                for (int i = from; i < to; i++) {
+                    results[i] = toResult(evaluator.validate(values.get(i)));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ListTask(values, results, from, middle), new ListTask(values, results, middle, to));
+        }
+    }
+
+    private static final class ParallelCheckHolder {
+        static final boolean AVAILABLE = isClassAvailable("java.util.concurrent.ForkJoinPool");
+
+        private static boolean isClassAvailable(String className) {
+            try {
+                Class.forName(className);
+                return true;
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+    }
+
+    private static final class SharedPoolHolder {
+        static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+}
@@ -0,0 +1,121 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Running per character class counters of an edited text.
+ * <p>
+ * Counters are updated only for the replaced range of every edit, so an edit costs O(edit size)
+ * instead of O(text length). When the edit can not be applied safely (text replaced without the
+ * before/after pair, unexpected length, a surrogate pair split by the edit range) the counters are
+ * invalidated and the next {@link #summary(CharSequence)} call scans the whole text again.
+ */
+final class CharacterClassCounter {
+    private final int[] counts = new int[CharacterClasses.FLAG_COUNT];
+    /**
+     * Length of the counted text, -1 when the counters are invalid
+     */
+    private int length = -1;
+    private boolean editPending;
+    private int pendingStart;
+    private int pendingCount;
+
+    /**
+     * Drops the counters, the next summary is built by full scan.
+     */
+    void invalidate() {
+        length = -1;
+        editPending = false;
+    }
+
+    /**
+     * Removes the characters, which are going to be replaced, from the counters.
+     *
+     * @param text  text before the change
+     * @param start start of the replaced range
+     * @param count length of the replaced range
+     * @param after length of the new text in the range
+     */
+    void beforeTextChanged(CharSequence text, int start, int count, int after) {
+        editPending = false;
+        if (length != text.length() || (start == 0 && count == length)
+                || splitsSurrogatePair(text, start, start + count)) {
+            // nothing to keep, or the range boundaries are ambiguous
+            length = -1;
+            return;
+        }
+        update(text, start, start + count, -1);
+        length -= count;
+        editPending = true;
+        pendingStart = start;
+        pendingCount = after;
+    }
+
+    /**
+     * Adds the new characters to the counters.
+     *
+     * @param text   text after the change
+     * @param start  start of the replaced range
+     * @param before length of the replaced range
+     * @param count  length of the new text in the range
+     */
+    void onTextChanged(CharSequence text, int start, int before, int count) {
+        if (!editPending || start != pendingStart || count != pendingCount
+                || length + count != text.length() || splitsSurrogatePair(text, start, start + count)) {
+            invalidate();
+            return;
+        }
+        editPending = false;
+        update(text, start, start + count, 1);
+        length += count;
+    }
+
+    /**
+     * Gets the character classes summary of the text, see {@link CharacterClasses#scan(CharSequence)}.
+     *
+     * @param text current text
+     * @return summary bitmask
+     */
+    int summary(CharSequence text) {
+        if (editPending || length != text.length()) {
+            rescan(text);
+        }
+        int summary = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                summary |= 1 << i;
+            }
+        }
+        return summary;
+    }
+
+    private void rescan(CharSequence text) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+        update(text, 0, text.length(), 1);
+        length = text.length();
+        editPending = false;
+    }
+
+    private void update(CharSequence text, int start, int end, int delta) {
+        int i = start;
+        while (i < end) {
+            int codePoint = CharacterClasses.codePointAt(text, i, end);
+            int flags = CharacterClasses.classify(codePoint);
+            while (flags != 0) {
+                counts[Integer.numberOfTrailingZeros(flags)] += delta;
+                flags &= flags - 1;
+            }
+            i += Character.charCount(codePoint);
+        }
+    }
+
+    private static boolean splitsSurrogatePair(CharSequence text, int start, int end) {
+        return isInsideSurrogatePair(text, start) || isInsideSurrogatePair(text, end);
+    }
+
+    private static boolean isInsideSurrogatePair(CharSequence text, int index) {
+        return index > 0 && index < text.length()
+                && Character.isHighSurrogate(text.charAt(index - 1))
+                && Character.isLowSurrogate(text.charAt(index));
+    }
+}
@@ -0,0 +1,311 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Single-pass character class scanner.
+ * <p>
+ * {@link #scan(CharSequence)} reads the text once and returns a bitmask summary of the character
+ * classes found in it. Every character class rule of ValidationSettings is then answered from the
+ * summary, with the same result as the CustomValidator regex for that rule on Android.
+ * <p>
+ * Android java.util.regex is backed by ICU, where \d is \p{Nd} and \s is \p{White_Space}, not the
+ * ASCII classes of the JVM. The summary follows ICU, which matches the JVM with
+ * {@link java.util.regex.Pattern#UNICODE_CHARACTER_CLASS}.
+ */
+final class CharacterClasses {
+    /**
+     * [a-z]
+     */
+    static final int LATIN_LOWERCASE = 1;
+    /**
+     * [A-Z]
+     */
+    static final int LATIN_UPPERCASE = 1 << 1;
+    /**
+     * [0-9]
+     */
+    static final int DIGIT = 1 << 2;
+    /**
+     * \s, which is \p{White_Space} in ICU
+     */
+    static final int WHITESPACE = 1 << 3;
+    /**
+     * \p{L}, except [a-zA-Z]
+     */
+    static final int OTHER_LETTER = 1 << 4;
+    /**
+     * Everything else
+     */
+    static final int OTHER = 1 << 5;
+    /**
+     * Character is changed by toLowerCase()
+     */
+    static final int NOT_LOWERCASE = 1 << 6;
+    /**
+     * Character is changed by toUpperCase()
+     */
+    static final int NOT_UPPERCASE = 1 << 7;
+    /**
+     * Character is upper or title case, but has no simple lower case mapping.
+     * String.toLowerCase() must be checked to get the exact answer.
+     */
+    static final int LOWERCASE_UNCERTAIN = 1 << 8;
+    /**
+     * Character is lower or title case, but has no simple upper case mapping (like the German sharp s).
+     * String.toUpperCase() must be checked to get the exact answer.
+     */
+    static final int UPPERCASE_UNCERTAIN = 1 << 9;
+    /**
+     * \d, which is \p{Nd} in ICU, except [0-9]
+     */
+    static final int OTHER_DIGIT = 1 << 10;
+    /**
+     * Count of the flags above
+     */
+    static final int FLAG_COUNT = 11;
+
+    private static final int ANY_CHARACTER = LATIN_LOWERCASE | LATIN_UPPERCASE | DIGIT | WHITESPACE | OTHER_LETTER
+            | OTHER | OTHER_DIGIT;
+    private static final int DIGITS = DIGIT | OTHER_DIGIT;
+    private static final int LATIN_LETTERS = LATIN_LOWERCASE | LATIN_UPPERCASE;
+    private static final int LETTERS = LATIN_LETTERS | OTHER_LETTER;
+
+    private CharacterClasses() {
+    }
+
+    /**
+     * Scans the text and collects the character classes found in it.
+     *
+     * @param value text to scan
+     * @return summary bitmask
+     */
+    static int scan(CharSequence value) {
+        return scan(value, 0, value.length());
+    }
+
+    /**
+     * Scans the range of the text and collects the character classes found in it.
+     *
+     * @param value text to scan
+     * @param start range start, inclusive
+     * @param end   range end, exclusive
+     * @return summary bitmask
+     */
+    static int scan(CharSequence value, int start, int end) {
+        int summary = 0;
+        int i = start;
+        while (i < end) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                summary |= classifyAscii(c);
+                i++;
+            } else {
+                int codePoint = codePointAt(value, i, end);
+                summary |= classify(codePoint);
+                i += Character.charCount(codePoint);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Gets the flags of a single code point.
+     *
+     * @param codePoint code point
+     * @return flags bitmask
+     */
+    static int classify(int codePoint) {
+        if (codePoint < 128) {
+            return classifyAscii((char) codePoint);
+        }
+        int flags;
+        if (Character.isLetter(codePoint)) {
+            flags = OTHER_LETTER;
+        } else if (isDigit(codePoint)) {
+            flags = OTHER_DIGIT;
+        } else if (isWhiteSpace(codePoint)) {
+            flags = WHITESPACE;
+        } else {
+            flags = OTHER;
+        }
+        if (Character.toLowerCase(codePoint) != codePoint) {
+            flags |= NOT_LOWERCASE;
+        } else if (Character.isUpperCase(codePoint) || Character.isTitleCase(codePoint)) {
+            flags |= LOWERCASE_UNCERTAIN;
+        }
+        if (Character.toUpperCase(codePoint) != codePoint) {
+            flags |= NOT_UPPERCASE;
+        } else if (Character.isLowerCase(codePoint) || Character.isTitleCase(codePoint)) {
+            flags |= UPPERCASE_UNCERTAIN;
+        }
+        return flags;
+    }
+
+    /**
+     * Checks if the code point is \d in ICU: [0-9] or any other \p{Nd} digit.
+     *
+     * @param codePoint code point
+     * @return true if the code point is a decimal digit
+     */
+    static boolean isDigit(int codePoint) {
+        return Character.isDigit(codePoint);
+    }
+
+    /**
+     * Checks the Unicode White_Space property of a non-ASCII code point, Character.isWhitespace differs
+     * from it.
+     */
+    private static boolean isWhiteSpace(int codePoint) {
+        switch (codePoint) {
+            case 0x85:
+            case 0xA0:
+            case 0x1680:
+            case 0x2028:
+            case 0x2029:
+            case 0x202F:
+            case 0x205F:
+            case 0x3000:
+                return true;
+            default:
+                return codePoint >= 0x2000 && codePoint <= 0x200A;
+        }
+    }
+
+    /**
+     * Reads the code point at the index, like Character.codePointAt, but never reads past the end.
+     */
+    static int codePointAt(CharSequence value, int index, int end) {
+        char high = value.charAt(index);
+        if (Character.isHighSurrogate(high) && index + 1 < end) {
+            char low = value.charAt(index + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(high, low);
+            }
+        }
+        return high;
+    }
+
+    private static int classifyAscii(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return LATIN_LOWERCASE | NOT_UPPERCASE;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return LATIN_UPPERCASE | NOT_LOWERCASE;
+        }
+        if (c >= '0' && c <= '9') {
+            return DIGIT;
+        }
+        if (c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r') {
+            return WHITESPACE;
+        }
+        return OTHER;
+    }
+
+    private static boolean isOnly(int summary, int allowed) {
+        return (summary & ANY_CHARACTER) != 0 && (summary & ANY_CHARACTER & ~allowed) == 0;
+    }
+
+    /**
+     * \p{L}+
+     */
+    static boolean isOnlyLetters(int summary) {
+        return isOnly(summary, LETTERS);
+    }
+
+    /**
+     * [\p{L}\s]+
+     */
+    static boolean isOnlyLettersWithSpaces(int summary) {
+        return isOnly(summary, LETTERS | WHITESPACE);
+    }
+
+    /**
+     * [a-zA-Z]+
+     */
+    static boolean isOnlyLatinLetters(int summary) {
+        return isOnly(summary, LATIN_LETTERS);
+    }
+
+    /**
+     * [a-zA-Z\s]+
+     */
+    static boolean isOnlyLatinLettersWithSpaces(int summary) {
+        return isOnly(summary, LATIN_LETTERS | WHITESPACE);
+    }
+
+    /**
+     * ^[a-zA-Z0-9]+$
+     */
+    static boolean isAlphanumeric(int summary) {
+        return isOnly(summary, LATIN_LETTERS | DIGIT);
+    }
+
+    /**
+     * \d+
+     */
+    static boolean isOnlyDigits(int summary) {
+        return isOnly(summary, DIGITS);
+    }
+
+    /**
+     * value.equals(value.toLowerCase())
+     */
+    static boolean isLowercase(int summary, CharSequence value) {
+        if ((summary & NOT_LOWERCASE) != 0) {
+            return false;
+        }
+        if ((summary & LOWERCASE_UNCERTAIN) != 0) {
+            String text = value.toString();
+            return text.equals(text.toLowerCase());
+        }
+        return true;
+    }
+
+    /**
+     * value.equals(value.toUpperCase())
+     */
+    static boolean isUppercase(int summary, CharSequence value) {
+        if ((summary & NOT_UPPERCASE) != 0) {
+            return false;
+        }
+        if ((summary & UPPERCASE_UNCERTAIN) != 0) {
+            String text = value.toString();
+            return text.equals(text.toUpperCase());
+        }
+        return true;
+    }
+
+    /**
+     * [a-z] is found
+     */
+    static boolean hasAtLeastOneLowercase(int summary) {
+        return (summary & LATIN_LOWERCASE) != 0;
+    }
+
+    /**
+     * [A-Z] is found
+     */
+    static boolean hasAtLeastOneUppercase(int summary) {
+        return (summary & LATIN_UPPERCASE) != 0;
+    }
+
+    /**
+     * \d is found
+     */
+    static boolean hasAtLeastOneDigit(int summary) {
+        return (summary & DIGITS) != 0;
+    }
+
+    /**
+     * [^a-zA-Z0-9\s] is found
+     */
+    static boolean hasAtLeastOneSpecialCharacter(int summary) {
+        return (summary & (OTHER_LETTER | OTHER | OTHER_DIGIT)) != 0;
+    }
+
+    /**
+     * [a-zA-Z] is found
+     */
+    static boolean hasAtLeastOneLetter(int summary) {
+        return (summary & LATIN_LETTERS) != 0;
+    }
+}
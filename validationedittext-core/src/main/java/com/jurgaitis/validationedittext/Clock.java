@@ -0,0 +1,8 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Monotonic time source, SystemClock.uptimeMillis() on Android.
+ */
+public interface Clock {
+    long uptimeMillis();
+}
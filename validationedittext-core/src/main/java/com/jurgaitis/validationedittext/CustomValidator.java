@@ -0,0 +1,876 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+public class CustomValidator {
+    private int maxLength;
+    private int minLength;
+    private String notEmptyErrorMessage;
+    private String emailErrorMessage;
+    private String onlyLettersErrorMessage;
+    private String onlyLettersWithSpacesErrorMessage;
+    private String onlyLatinLettersErrorMessage;
+    private String onlyLatinLettersWithSpacesErrorMessage;
+    private String alphanumericErrorMessage;
+    private String onlyDigitsErrorMessage;
+    private String maxLengthErrorMessage;
+    private String minLengthErrorMessage;
+    private String lowercaseErrorMessage;
+    private String uppercaseErrorMessage;
+    private String atLeastOneLowercaseErrorMessage;
+    private String atLeastOneUppercaseErrorMessage;
+    private String atLeastOneDigitErrorMessage;
+    private String atLeastOneSpecialCharacterErrorMessage;
+    private String atLeastOneLetterErrorMessage;
+    private String postalCodeErrorMessage;
+    private String onlyCustomRegexErrorMessage;
+    private String atLeastOneCustomRegexErrorMessage;
+    private String timedOutErrorMessage;
+    // length messages are built once, when the limit or the message changes
+    private String maxLengthErrorMessageCache;
+    private String minLengthErrorMessageCache;
+    // incremented on every change, so cached result messages can be invalidated
+    private int version;
+    // messages of the interned results, built with the settings of messagesVersion, guarded by itself.
+    // Weak keys, so results of rebuilt plans are not held
+    private final Map<ValidationResult, String> resultMessages = new WeakHashMap<>();
+    private int messagesVersion;
+
+    /**
+     * Instantiates a new CustomValidator with default values.
+     */
+    public CustomValidator() {
+        maxLength = 32;
+        minLength = 3;
+        notEmptyErrorMessage = "Cannot be empty";
+        emailErrorMessage = "Invalid email address";
+        onlyLettersErrorMessage = "Please enter only letters";
+        onlyLettersWithSpacesErrorMessage = "Please enter only letters";
+        onlyLatinLettersErrorMessage = "Please enter only letters";
+        onlyLatinLettersWithSpacesErrorMessage = "Please enter only letters";
+        alphanumericErrorMessage = "Please enter only letters or digits";
+        onlyDigitsErrorMessage = "Please enter only digits";
+        maxLengthErrorMessage = "Length should be less than or equal to ";
+        minLengthErrorMessage = "Length should be greater than or equal to ";
+        lowercaseErrorMessage = "All letters should be in lower case";
+        uppercaseErrorMessage = "All letters should be in upper case";
+        atLeastOneLowercaseErrorMessage = "At least one letter should be in lower case";
+        atLeastOneUppercaseErrorMessage = "At least one letter should be in upper case";
+        atLeastOneDigitErrorMessage = "Should contain at least one digit";
+        atLeastOneSpecialCharacterErrorMessage = "Should contain at least one special character";
+        atLeastOneLetterErrorMessage = "Should contain at least one letter";
+        postalCodeErrorMessage = "Invalid postal code";
+        onlyCustomRegexErrorMessage = "Please enter only custom regex";
+        atLeastOneCustomRegexErrorMessage = "At least one letter should be like custom regex";
+        timedOutErrorMessage = "Validation timed out";
+    }
+
+    /**
+     * Checks if the string is not empty.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value is not empty or false if the string value is empty
+     */
+    public boolean isNotEmpty(String value) {
+        return isNotEmpty((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string is not empty.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value is not empty or false if the string value is empty
+     */
+    public boolean isNotEmpty(CharSequence value) {
+        return value != null && value.length() > 0;
+    }
+
+    /**
+     * Checks if the string is an email address.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value is an email address, otherwise false
+     */
+    public boolean isEmail(String value) {
+        return isEmail((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string is an email address.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value is an email address, otherwise false
+     */
+    public boolean isEmail(CharSequence value) {
+        return EmailValidator.isValid(value);
+    }
+
+    /**
+     * Checks if the string is an email address.
+     *
+     * @param value      the string value that to be checked
+     * @param strictness how strictly the address is checked
+     * @return true if the string value is an email address, otherwise false
+     */
+    public boolean isEmail(CharSequence value, EmailValidator.Strictness strictness) {
+        return EmailValidator.isValid(value, strictness);
+    }
+
+    /**
+     * Checks if the string contains only letters.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only letters, otherwise false
+     */
+    public boolean isOnlyLetters(String value) {
+        return isOnlyLetters((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string contains only letters.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only letters, otherwise false
+     */
+    public boolean isOnlyLetters(CharSequence value) {
+        return CharacterClasses.isOnlyLetters(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string contains only letters with spaces.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only letters with spaces or without spaces, otherwise false
+     */
+    public boolean isOnlyLettersWithSpaces(String value) {
+        return isOnlyLettersWithSpaces((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string contains only letters with spaces.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only letters with spaces or without spaces, otherwise false
+     */
+    public boolean isOnlyLettersWithSpaces(CharSequence value) {
+        return CharacterClasses.isOnlyLettersWithSpaces(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string contains only latin letters.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only latin letters, otherwise false
+     */
+    public boolean isOnlyLatinLetters(String value) {
+        return isOnlyLatinLetters((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string contains only latin letters.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only latin letters, otherwise false
+     */
+    public boolean isOnlyLatinLetters(CharSequence value) {
+        return CharacterClasses.isOnlyLatinLetters(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string contains only latin letters with spaces.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only latin letters with spaces or without spaces, otherwise false
+     */
+    public boolean isOnlyLatinLetterWithSpaces(String value) {
+        return isOnlyLatinLetterWithSpaces((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string contains only latin letters with spaces.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only latin letters with spaces or without spaces, otherwise false
+     */
+    public boolean isOnlyLatinLetterWithSpaces(CharSequence value) {
+        return CharacterClasses.isOnlyLatinLettersWithSpaces(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string contains only letters and numbers.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only letters and numbers, otherwise false
+     */
+    public boolean isAlphanumeric(String value) {
+        return isAlphanumeric((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string contains only letters and numbers.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only letters and numbers, otherwise false
+     */
+    public boolean isAlphanumeric(CharSequence value) {
+        return CharacterClasses.isAlphanumeric(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string contains only digits.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only digits, otherwise false
+     */
+    public boolean isOnlyDigits(String value) {
+        return isOnlyDigits((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string contains only digits.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string value contains only digits, otherwise false
+     */
+    public boolean isOnlyDigits(CharSequence value) {
+        return CharacterClasses.isOnlyDigits(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string length is less than or equal to the max length.
+     *
+     * @param value the string value that to be checked
+     * @param maxLength max string length
+     * @return true if the string length is less than or equal to the max length, otherwise false
+     */
+    public boolean isLessThanOrEqualToTheMaxLength(String value, int maxLength) {
+        return isLessThanOrEqualToTheMaxLength((CharSequence) value, maxLength);
+    }
+
+    /**
+     * Checks if the string length is less than or equal to the max length.
+     *
+     * @param value the string value that to be checked
+     * @param maxLength max string length
+     * @return true if the string length is less than or equal to the max length, otherwise false
+     */
+    public boolean isLessThanOrEqualToTheMaxLength(CharSequence value, int maxLength) {
+        if (this.maxLength != maxLength) {
+            setMaxLength(maxLength);
+        }
+        return value.length() <= maxLength;
+    }
+
+    /**
+     * Checks if the string length is greater than or equal to the max length.
+     *
+     * @param value the string value that to be checked
+     * @param minLength min string length
+     * @return true if the string length is greater than or equal to the max length, otherwise false
+     */
+    public boolean isGreaterThanOrEqualToMinLength(String value, int minLength) {
+        return isGreaterThanOrEqualToMinLength((CharSequence) value, minLength);
+    }
+
+    /**
+     * Checks if the string length is greater than or equal to the max length.
+     *
+     * @param value the string value that to be checked
+     * @param minLength min string length
+     * @return true if the string length is greater than or equal to the max length, otherwise false
+     */
+    public boolean isGreaterThanOrEqualToMinLength(CharSequence value, int minLength) {
+        if (this.minLength != minLength) {
+            setMinLength(minLength);
+        }
+        return value.length() >= minLength;
+    }
+
+    /**
+     * Checks if the string is all lowercase.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string is all lowercase, otherwise false
+     */
+    public boolean isLowercase(String value) {
+        return isLowercase((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string is all lowercase.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string is all lowercase, otherwise false
+     */
+    public boolean isLowercase(CharSequence value) {
+        return CharacterClasses.isLowercase(CharacterClasses.scan(value), value);
+    }
+
+    /**
+     * Checks if the string is all uppercase.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string is all uppercase, otherwise false
+     */
+    public boolean isUppercase(String value) {
+        return isUppercase((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string is all uppercase.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string is all uppercase, otherwise false
+     */
+    public boolean isUppercase(CharSequence value) {
+        return CharacterClasses.isUppercase(CharacterClasses.scan(value), value);
+    }
+
+    /**
+     * Checks if the string has at least one lowercase character.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one lowercase character, otherwise false
+     */
+    public boolean hasAtLeastOneLowercase(String value) {
+        return hasAtLeastOneLowercase((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string has at least one lowercase character.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one lowercase character, otherwise false
+     */
+    public boolean hasAtLeastOneLowercase(CharSequence value) {
+        return CharacterClasses.hasAtLeastOneLowercase(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string has at least one uppercase character.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one uppercase character, otherwise false
+     */
+    public boolean hasAtLeastOneUppercase(String value) {
+        return hasAtLeastOneUppercase((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string has at least one uppercase character.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one uppercase character, otherwise false
+     */
+    public boolean hasAtLeastOneUppercase(CharSequence value) {
+        return CharacterClasses.hasAtLeastOneUppercase(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string has at least one digit.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one digit, otherwise false
+     */
+    public boolean hasAtLeastOneDigit(String value) {
+        return hasAtLeastOneDigit((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string has at least one digit.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one digit, otherwise false
+     */
+    public boolean hasAtLeastOneDigit(CharSequence value) {
+        return CharacterClasses.hasAtLeastOneDigit(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string has at least one special character.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one special character, otherwise false
+     */
+    public boolean hasAtLeastOneSpecialCharacter(String value) {
+        return hasAtLeastOneSpecialCharacter((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string has at least one special character.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one special character, otherwise false
+     */
+    public boolean hasAtLeastOneSpecialCharacter(CharSequence value) {
+        return CharacterClasses.hasAtLeastOneSpecialCharacter(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string has at least one letter.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one letter, otherwise false
+     */
+    public boolean hasAtLeastOneLetter(String value) {
+        return hasAtLeastOneLetter((CharSequence) value);
+    }
+
+    /**
+     * Checks if the string has at least one letter.
+     *
+     * @param value the string value that to be checked
+     * @return true if the string has at least one letter, otherwise false
+     */
+    public boolean hasAtLeastOneLetter(CharSequence value) {
+        return CharacterClasses.hasAtLeastOneLetter(CharacterClasses.scan(value));
+    }
+
+    /**
+     * Checks if the string is valid postal code.
+     *
+     * @param value the string value that to be checked
+     * @param postalCodeRegex postal code regex, compiled pattern is taken from RegexCache
+     * @return true if the string is valid postal code, otherwise false
+     */
+    public boolean isValidPostalCode(String value, String postalCodeRegex) {
+        return isValidPostalCode(value, RegexCache.get(postalCodeRegex));
+    }
+
+    /**
+     * Checks if the string is valid postal code.
+     *
+     * @param value the string value that to be checked
+     * @param postalCodeRegex postal code regex, compiled pattern is taken from RegexCache
+     * @return true if the string is valid postal code, otherwise false
+     */
+    public boolean isValidPostalCode(CharSequence value, String postalCodeRegex) {
+        return isValidPostalCode(value, RegexCache.get(postalCodeRegex));
+    }
+
+    /**
+     * Checks if the string is valid postal code.
+     *
+     * @param value the string value that to be checked
+     * @param postalCodePattern compiled postal code pattern
+     * @return true if the string is valid postal code, otherwise false
+     */
+    public boolean isValidPostalCode(String value, Pattern postalCodePattern) {
+        return isValidPostalCode((CharSequence) value, postalCodePattern);
+    }
+
+    /**
+     * Checks if the string is valid postal code.
+     *
+     * @param value the string value that to be checked
+     * @param postalCodePattern compiled postal code pattern
+     * @return true if the string is valid postal code, otherwise false
+     */
+    public boolean isValidPostalCode(CharSequence value, Pattern postalCodePattern) {
+        return postalCodePattern.matcher(value).matches();
+    }
+
+    /**
+     * Checks if the string contains only custom regex.
+     *
+     * @param value the string value that to be checked
+     * @param myRegexPattern custom regex, compiled pattern is taken from RegexCache
+     * @return true if the string contains only custom regex, otherwise false
+     */
+    public boolean isOnlyCustomRegex(String value, String myRegexPattern) {
+        return isOnlyCustomRegex(value, RegexCache.get(myRegexPattern));
+    }
+
+    /**
+     * Checks if the string contains only custom regex.
+     *
+     * @param value the string value that to be checked
+     * @param myRegexPattern custom regex, compiled pattern is taken from RegexCache
+     * @return true if the string contains only custom regex, otherwise false
+     */
+    public boolean isOnlyCustomRegex(CharSequence value, String myRegexPattern) {
+        return isOnlyCustomRegex(value, RegexCache.get(myRegexPattern));
+    }
+
+    /**
+     * Checks if the string contains only custom regex.
+     *
+     * @param value the string value that to be checked
+     * @param myPattern compiled custom pattern
+     * @return true if the string contains only custom regex, otherwise false
+     */
+    public boolean isOnlyCustomRegex(String value, Pattern myPattern) {
+        return isOnlyCustomRegex((CharSequence) value, myPattern);
+    }
+
+    /**
+     * Checks if the string contains only custom regex.
+     *
+     * @param value the string value that to be checked
+     * @param myPattern compiled custom pattern
+     * @return true if the string contains only custom regex, otherwise false
+     */
+    public boolean isOnlyCustomRegex(CharSequence value, Pattern myPattern) {
+        return myPattern.matcher(value).matches();
+    }
+
+    /**
+     * Checks if the string has at least one custom regex character.
+     *
+     * @param value the string value that to be checked
+     * @param myRegexPattern custom regex, compiled pattern is taken from RegexCache
+     * @return true if the string has at least one custom regex character, otherwise false
+     */
+    public boolean hasAtLeastOneCustomRegex(String value, String myRegexPattern) {
+        return hasAtLeastOneCustomRegex(value, RegexCache.get(myRegexPattern));
+    }
+
+    /**
+     * Checks if the string has at least one custom regex character.
+     *
+     * @param value the string value that to be checked
+     * @param myRegexPattern custom regex, compiled pattern is taken from RegexCache
+     * @return true if the string has at least one custom regex character, otherwise false
+     */
+    public boolean hasAtLeastOneCustomRegex(CharSequence value, String myRegexPattern) {
+        return hasAtLeastOneCustomRegex(value, RegexCache.get(myRegexPattern));
+    }
+
+    /**
+     * Checks if the string has at least one custom regex character.
+     *
+     * @param value the string value that to be checked
+     * @param myPattern compiled custom pattern
+     * @return true if the string has at least one custom regex character, otherwise false
+     */
+    public boolean hasAtLeastOneCustomRegex(String value, Pattern myPattern) {
+        return hasAtLeastOneCustomRegex((CharSequence) value, myPattern);
+    }
+
+    /**
+     * Checks if the string has at least one custom regex character.
+     *
+     * @param value the string value that to be checked
+     * @param myPattern compiled custom pattern
+     * @return true if the string has at least one custom regex character, otherwise false
+     */
+    public boolean hasAtLeastOneCustomRegex(CharSequence value, Pattern myPattern) {
+        return myPattern.matcher(value).find();
+    }
+
+    /**
+     * Gets the error message of the validation result.
+     *
+     * @param result validation result
+     * @return error message or null, if the result is valid
+     */
+    public String getErrorMessage(ValidationResult result) {
+        if (result.isValid()) {
+            return null;
+        }
+        switch (result.getRule()) {
+            case MAX_LENGTH:
+                return result.getLimit() == maxLength
+                        ? getMaxLengthErrorMessage() : maxLengthErrorMessage + result.getLimit();
+            case MIN_LENGTH:
+                return result.getLimit() == minLength
+                        ? getMinLengthErrorMessage() : minLengthErrorMessage + result.getLimit();
+            default:
+                return getErrorMessage(result.getRule());
+        }
+    }
+
+    /**
+     * Gets the error message of the validation result. Message is built once for every result and
+     * the current settings, so fields, which share plans, but not validators, do not evict each other.
+     *
+     * @param result interned failure result
+     * @return error message
+     */
+    String getCachedErrorMessage(ValidationResult result) {
+        synchronized (resultMessages) {
+            if (messagesVersion != version) {
+                resultMessages.clear();
+                messagesVersion = version;
+            }
+            String message = resultMessages.get(result);
+            if (message == null) {
+                message = getErrorMessage(result);
+                resultMessages.put(result, message);
+            }
+            return message;
+        }
+    }
+
+    /**
+     * Gets the error message of the rule.
+     *
+     * @param rule failed validation rule
+     * @return error message
+     */
+    public String getErrorMessage(ValidationRule rule) {
+        switch (rule) {
+            case NOT_EMPTY:
+                return getNotEmptyErrorMessage();
+            case EMAIL:
+                return getEmailErrorMessage();
+            case ONLY_LETTERS:
+                return getOnlyLettersErrorMessage();
+            case ONLY_LETTERS_WITH_SPACES:
+                return getOnlyLettersWithSpacesErrorMessage();
+            case ONLY_LATIN_LETTERS:
+                return getOnlyLatinLettersErrorMessage();
+            case ONLY_LATIN_LETTERS_WITH_SPACES:
+                return getOnlyLatinLettersWithSpacesErrorMessage();
+            case ALPHANUMERIC:
+                return getAlphanumericErrorMessage();
+            case ONLY_DIGITS:
+                return getOnlyDigitsErrorMessage();
+            case MAX_LENGTH:
+                return getMaxLengthErrorMessage();
+            case MIN_LENGTH:
+                return getMinLengthErrorMessage();
+            case ALL_LOWERCASE:
+                return getLowercaseErrorMessage();
+            case ALL_UPPERCASE:
+                return getUppercaseErrorMessage();
+            case AT_LEAST_ONE_LOWERCASE:
+                return getAtLeastOneLowercaseErrorMessage();
+            case AT_LEAST_ONE_UPPERCASE:
+                return getAtLeastOneUppercaseErrorMessage();
+            case AT_LEAST_ONE_DIGIT:
+                return getAtLeastOneDigitErrorMessage();
+            case AT_LEAST_ONE_SPECIAL_CHARACTER:
+                return getAtLeastOneSpecialCharacterErrorMessage();
+            case AT_LEAST_ONE_LETTER:
+                return getAtLeastOneLetterErrorMessage();
+            case VALID_POSTAL_CODE:
+                return getPostalCodeErrorMessage();
+            case ONLY_CUSTOM_REGEX:
+                return getOnlyCustomRegexErrorMessage();
+            case AT_LEAST_ONE_CUSTOM_REGEX:
+                return getAtLeastOneCustomRegexErrorMessage();
+            default:
+                return null;
+        }
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    void setMaxLength(int maxLength) {
+        version++;
+        this.maxLength = maxLength;
+        maxLengthErrorMessageCache = null;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    void setMinLength(int minLength) {
+        version++;
+        this.minLength = minLength;
+        minLengthErrorMessageCache = null;
+    }
+
+    public String getNotEmptyErrorMessage() {
+        return notEmptyErrorMessage;
+    }
+
+    public void setNotEmptyErrorMessage(String notEmptyErrorMessage) {
+        version++;
+        this.notEmptyErrorMessage = notEmptyErrorMessage;
+    }
+
+    public String getEmailErrorMessage() {
+        return emailErrorMessage;
+    }
+
+    public void setEmailErrorMessage(String emailErrorMessage) {
+        version++;
+        this.emailErrorMessage = emailErrorMessage;
+    }
+
+    public String getOnlyLettersErrorMessage() {
+        return onlyLettersErrorMessage;
+    }
+
+    public void setOnlyLettersErrorMessage(String onlyLettersErrorMessage) {
+        version++;
+        this.onlyLettersErrorMessage = onlyLettersErrorMessage;
+    }
+
+    public String getOnlyLettersWithSpacesErrorMessage() {
+        return onlyLettersWithSpacesErrorMessage;
+    }
+
+    public void setOnlyLettersWithSpacesErrorMessage(String onlyLettersWithSpacesErrorMessage) {
+        version++;
+        this.onlyLettersWithSpacesErrorMessage = onlyLettersWithSpacesErrorMessage;
+    }
+
+    public String getOnlyLatinLettersErrorMessage() {
+        return onlyLatinLettersErrorMessage;
+    }
+
+    public void setOnlyLatinLettersErrorMessage(String onlyLatinLettersErrorMessage) {
+        version++;
+        this.onlyLatinLettersErrorMessage = onlyLatinLettersErrorMessage;
+    }
+
+    public String getOnlyLatinLettersWithSpacesErrorMessage() {
+        return onlyLatinLettersWithSpacesErrorMessage;
+    }
+
+    public void setOnlyLatinLettersWithSpacesErrorMessage(String onlyLatinLettersWithSpacesErrorMessage) {
+        version++;
+        this.onlyLatinLettersWithSpacesErrorMessage = onlyLatinLettersWithSpacesErrorMessage;
+    }
+
+    public String getAlphanumericErrorMessage() {
+        return alphanumericErrorMessage;
+    }
+
+    public void setAlphanumericErrorMessage(String alphanumericErrorMessage) {
+        version++;
+        this.alphanumericErrorMessage = alphanumericErrorMessage;
+    }
+
+    public String getOnlyDigitsErrorMessage() {
+        return onlyDigitsErrorMessage;
+    }
+
+    public void setOnlyDigitsErrorMessage(String onlyDigitsErrorMessage) {
+        version++;
+        this.onlyDigitsErrorMessage = onlyDigitsErrorMessage;
+    }
+
+    public String getMaxLengthErrorMessage() {
+        if (maxLengthErrorMessageCache == null) {
+            maxLengthErrorMessageCache = maxLengthErrorMessage + maxLength;
+        }
+        return maxLengthErrorMessageCache;
+    }
+
+    public void setMaxLengthErrorMessage(String maxLengthErrorMessage) {
+        version++;
+        this.maxLengthErrorMessage = maxLengthErrorMessage;
+        maxLengthErrorMessageCache = null;
+    }
+
+    public String getMinLengthErrorMessage() {
+        if (minLengthErrorMessageCache == null) {
+            minLengthErrorMessageCache = minLengthErrorMessage + minLength;
+        }
+        return minLengthErrorMessageCache;
+    }
+
+    public void setMinLengthErrorMessage(String minLengthErrorMessage) {
+        version++;
+        this.minLengthErrorMessage = minLengthErrorMessage;
+        minLengthErrorMessageCache = null;
+    }
+
+    public String getLowercaseErrorMessage() {
+        return lowercaseErrorMessage;
+    }
+
+    public void setLowercaseErrorMessage(String lowercaseErrorMessage) {
+        version++;
+        this.lowercaseErrorMessage = lowercaseErrorMessage;
+    }
+
+    public String getUppercaseErrorMessage() {
+        return uppercaseErrorMessage;
+    }
+
+    public void setUppercaseErrorMessage(String uppercaseErrorMessage) {
+        version++;
+        this.uppercaseErrorMessage = uppercaseErrorMessage;
+    }
+
+    public String getAtLeastOneLowercaseErrorMessage() {
+        return atLeastOneLowercaseErrorMessage;
+    }
+
+    public void setAtLeastOneLowercaseErrorMessage(String atLeastOneLowercaseErrorMessage) {
+        version++;
+        this.atLeastOneLowercaseErrorMessage = atLeastOneLowercaseErrorMessage;
+    }
+
+    public String getAtLeastOneUppercaseErrorMessage() {
+        return atLeastOneUppercaseErrorMessage;
+    }
+
+    public void setAtLeastOneUppercaseErrorMessage(String atLeastOneUppercaseErrorMessage) {
+        version++;
+        this.atLeastOneUppercaseErrorMessage = atLeastOneUppercaseErrorMessage;
+    }
+
+    public String getAtLeastOneDigitErrorMessage() {
+        return atLeastOneDigitErrorMessage;
+    }
+
+    public void setAtLeastOneDigitErrorMessage(String atLeastOneDigitErrorMessage) {
+        version++;
+        this.atLeastOneDigitErrorMessage = atLeastOneDigitErrorMessage;
+    }
+
+    public String getAtLeastOneSpecialCharacterErrorMessage() {
+        return atLeastOneSpecialCharacterErrorMessage;
+    }
+
+    public void setAtLeastOneSpecialCharacterErrorMessage(String atLeastOneSpecialCharacterErrorMessage) {
+        version++;
+        this.atLeastOneSpecialCharacterErrorMessage = atLeastOneSpecialCharacterErrorMessage;
+    }
+
+    public String getAtLeastOneLetterErrorMessage() {
+        return atLeastOneLetterErrorMessage;
+    }
+
+    public void setAtLeastOneLetterErrorMessage(String atLeastOneLetterErrorMessage) {
+        version++;
+        this.atLeastOneLetterErrorMessage = atLeastOneLetterErrorMessage;
+    }
+
+    public String getPostalCodeErrorMessage() {
+        return postalCodeErrorMessage;
+    }
+
+    public void setPostalCodeErrorMessage(String postalCodeErrorMessage) {
+        version++;
+        this.postalCodeErrorMessage = postalCodeErrorMessage;
+    }
+
+    public String getOnlyCustomRegexErrorMessage() {
+        return onlyCustomRegexErrorMessage;
+    }
+
+    public void setOnlyCustomRegexErrorMessage(String onlyCustomRegexErrorMessage) {
+        version++;
+        this.onlyCustomRegexErrorMessage = onlyCustomRegexErrorMessage;
+    }
+
+    public String getAtLeastOneCustomRegexErrorMessage() {
+        return atLeastOneCustomRegexErrorMessage;
+    }
+
+    public void setAtLeastOneCustomRegexErrorMessage(String atLeastOneCustomRegexErrorMessage) {
+        version++;
+        this.atLeastOneCustomRegexErrorMessage = atLeastOneCustomRegexErrorMessage;
+    }
+
+    public String getTimedOutErrorMessage() {
+        return timedOutErrorMessage;
+    }
+
+    public void setTimedOutErrorMessage(String timedOutErrorMessage) {
+        version++;
+        this.timedOutErrorMessage = timedOutErrorMessage;
+    }
+}
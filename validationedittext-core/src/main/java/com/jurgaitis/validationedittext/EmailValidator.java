@@ -0,0 +1,167 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Email address validator. Address is checked by a state machine in a single pass without allocations,
+ * so the time is linear in the length of the value.
+ * All methods are thread-safe.
+ */
+public final class EmailValidator {
+    /**
+     * How strictly email addresses are checked
+     */
+    public enum Strictness {
+        /**
+         * Same results as android.util.Patterns.EMAIL_ADDRESS: local part of 1-256 characters
+         * [a-zA-Z0-9+._%-], domain of at least two labels. First domain label is up to 65 characters,
+         * other labels are up to 26 characters, labels start with a letter or a digit.
+         */
+        COMPATIBLE,
+        /**
+         * RFC 5321 dot-atom addresses: local part of up to 64 atext characters without leading, trailing
+         * or consecutive dots, domain of at least two labels of up to 63 letters, digits and hyphens
+         * without leading or trailing hyphen, all-numeric top level domain is not allowed, whole address
+         * is up to 254 characters. Quoted local parts and address literals are not supported.
+         */
+        RFC_5321
+    }
+
+    private static final int COMPATIBLE_MAX_LOCAL_LENGTH = 256;
+    private static final int COMPATIBLE_MAX_FIRST_LABEL_LENGTH = 65;
+    private static final int COMPATIBLE_MAX_LABEL_LENGTH = 26;
+
+    private static final int RFC_MAX_LOCAL_LENGTH = 64;
+    private static final int RFC_MAX_LABEL_LENGTH = 63;
+    private static final int RFC_MAX_ADDRESS_LENGTH = 254;
+
+    // character flags
+    private static final int ALPHANUMERIC = 1;
+    private static final int HYPHEN = 1 << 1;
+    private static final int DOT = 1 << 2;
+    private static final int COMPATIBLE_LOCAL = 1 << 3;
+    private static final int ATEXT = 1 << 4;
+
+    private static final int[] FLAGS = new int[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            FLAGS[c] = ALPHANUMERIC | COMPATIBLE_LOCAL | ATEXT;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            FLAGS[c] = ALPHANUMERIC | COMPATIBLE_LOCAL | ATEXT;
+            FLAGS[c - 'a' + 'A'] = ALPHANUMERIC | COMPATIBLE_LOCAL | ATEXT;
+        }
+        FLAGS['-'] = HYPHEN | COMPATIBLE_LOCAL | ATEXT;
+        FLAGS['.'] = DOT | COMPATIBLE_LOCAL;
+        FLAGS['+'] = COMPATIBLE_LOCAL | ATEXT;
+        FLAGS['_'] = COMPATIBLE_LOCAL | ATEXT;
+        FLAGS['%'] = COMPATIBLE_LOCAL | ATEXT;
+        for (char c : "!#$&'*/=?^`{|}~".toCharArray()) {
+            FLAGS[c] = ATEXT;
+        }
+    }
+
+    private EmailValidator() {
+    }
+
+    /**
+     * Checks if the value is an email address with {@link Strictness#COMPATIBLE} strictness.
+     *
+     * @param value value to be checked
+     * @return true if the value is an email address, otherwise false
+     */
+    public static boolean isValid(CharSequence value) {
+        return isCompatibleValid(value);
+    }
+
+    /**
+     * Checks if the value is an email address.
+     *
+     * @param value      value to be checked
+     * @param strictness how strictly the address is checked
+     * @return true if the value is an email address, otherwise false
+     */
+    public static boolean isValid(CharSequence value, Strictness strictness) {
+        return strictness == Strictness.RFC_5321 ? isRfcValid(value) : isCompatibleValid(value);
+    }
+
+    private static boolean isCompatibleValid(CharSequence value) {
+        int length = value.length();
+        int at = 0;
+        while (at < length && has(value.charAt(at), COMPATIBLE_LOCAL)) {
+            at++;
+        }
+        if (at == 0 || at > COMPATIBLE_MAX_LOCAL_LENGTH || at == length || value.charAt(at) != '@') {
+            return false;
+        }
+        int labels = 0;
+        int labelStart = at + 1;
+        for (int i = labelStart; ; i++) {
+            char c = i < length ? value.charAt(i) : '.';
+            if (c == '.') {
+                int labelLength = i - labelStart;
+                int maxLabelLength = labels == 0 ? COMPATIBLE_MAX_FIRST_LABEL_LENGTH : COMPATIBLE_MAX_LABEL_LENGTH;
+                if (labelLength == 0 || labelLength > maxLabelLength
+                        || !has(value.charAt(labelStart), ALPHANUMERIC)) {
+                    return false;
+                }
+                labels++;
+                if (i >= length) {
+                    return labels >= 2;
+                }
+                labelStart = i + 1;
+            } else if (!has(c, ALPHANUMERIC | HYPHEN)) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean isRfcValid(CharSequence value) {
+        int length = value.length();
+        if (length > RFC_MAX_ADDRESS_LENGTH) {
+            return false;
+        }
+        int at = 0;
+        char previous = '.';
+        for (; at < length; at++) {
+            char c = value.charAt(at);
+            if (c == '.') {
+                if (previous == '.') {
+                    return false;
+                }
+            } else if (!has(c, ATEXT)) {
+                break;
+            }
+            previous = c;
+        }
+        if (at == 0 || at > RFC_MAX_LOCAL_LENGTH || previous == '.' || at == length || value.charAt(at) != '@') {
+            return false;
+        }
+        int labels = 0;
+        int labelStart = at + 1;
+        boolean numericLabel = true;
+        for (int i = labelStart; ; i++) {
+            char c = i < length ? value.charAt(i) : '.';
+            if (c == '.') {
+                int labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > RFC_MAX_LABEL_LENGTH
+                        || value.charAt(labelStart) == '-' || value.charAt(i - 1) == '-') {
+                    return false;
+                }
+                labels++;
+                if (i >= length) {
+                    return labels >= 2 && !numericLabel;
+                }
+                labelStart = i + 1;
+                numericLabel = true;
+            } else if (has(c, ALPHANUMERIC | HYPHEN)) {
+                numericLabel &= c >= '0' && c <= '9';
+            } else {
+                return false;
+            }
+        }
+    }
+
+    private static boolean has(char c, int flags) {
+        return c < FLAGS.length && (FLAGS[c] & flags) != 0;
+    }
+}
@@ -0,0 +1,195 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+/**
+ * Fields of a ValidationGroup with their "stopped typing" deadlines and validity.
+ * <p>
+ * "Stopped typing" checks of all fields are driven by a single callback, which is posted for the
+ * earliest deadline of the group. Typing only moves the deadline of the field, so keystrokes do not
+ * remove and post callbacks. When the callback fires, due fields are checked and the next earliest
+ * deadline is found by one pass over the fields. Validity of the group is kept as a running count of
+ * invalid fields, so {@link #isValid()} takes constant time.
+ * <p>
+ * Not thread-safe, use on the main thread.
+ */
+final class FieldGroup {
+    /**
+     * Field of the group.
+     */
+    interface Field {
+        /**
+         * Called, when the "stopped typing" deadline of the field passes.
+         */
+        void onStoppedTyping();
+    }
+
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final Clock clock;
+    private final TypingDebouncer.Scheduler scheduler;
+    private final ArrayList<Entry> entries = new ArrayList<>();
+    private final IdentityHashMap<Field, Entry> entriesByField = new IdentityHashMap<>();
+    // reused copy of the entries, because checks can add or remove fields
+    private Entry[] snapshot = new Entry[0];
+    private int invalidCount;
+    // deadline of the posted callback, NO_DEADLINE - nothing is posted
+    private long scheduledDeadline = NO_DEADLINE;
+    private long scheduleCount;
+
+    private final Runnable stoppedTypingChecker = new Runnable() {
+        @Override
+        public void run() {
+            scheduledDeadline = NO_DEADLINE;
+            runDueChecks(clock.uptimeMillis());
+        }
+    };
+
+    /**
+     * @param clock     monotonic clock
+     * @param scheduler callback scheduler, Handler of the main thread on Android
+     */
+    FieldGroup(Clock clock, TypingDebouncer.Scheduler scheduler) {
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Adds the field.
+     *
+     * @param field field
+     * @param valid current validity of the field
+     * @return false if the field is already in the group
+     */
+    boolean add(Field field, boolean valid) {
+        if (entriesByField.containsKey(field)) {
+            return false;
+        }
+        Entry entry = new Entry(field, valid);
+        entries.add(entry);
+        entriesByField.put(field, entry);
+        if (!valid) {
+            invalidCount++;
+        }
+        return true;
+    }
+
+    /**
+     * Removes the field. Its pending deadline is dropped.
+     *
+     * @param field field
+     * @return false if the field is not in the group
+     */
+    boolean remove(Field field) {
+        Entry entry = entriesByField.remove(field);
+        if (entry == null) {
+            return false;
+        }
+        entries.remove(entry);
+        entry.removed = true;
+        if (!entry.valid) {
+            invalidCount--;
+        }
+        return true;
+    }
+
+    boolean isValid() {
+        return invalidCount == 0;
+    }
+
+    int getInvalidCount() {
+        return invalidCount;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return count of posted callbacks
+     */
+    long getScheduleCount() {
+        return scheduleCount;
+    }
+
+    /**
+     * @param field field
+     * @return "stopped typing" deadline of the field or NO_DEADLINE
+     */
+    long getDeadline(Field field) {
+        Entry entry = entriesByField.get(field);
+        return entry != null ? entry.deadline : NO_DEADLINE;
+    }
+
+    /**
+     * Updates the running count of invalid fields with the latest validation result of the field.
+     */
+    void onFieldValidated(Field field, boolean valid) {
+        Entry entry = entriesByField.get(field);
+        if (entry != null && entry.valid != valid) {
+            entry.valid = valid;
+            invalidCount += valid ? -1 : 1;
+        }
+    }
+
+    /**
+     * Sets "stopped typing" deadline of the field. Callback is posted only if the deadline is earlier than
+     * the pending one, otherwise the pending callback picks the field up.
+     */
+    void scheduleStoppedTyping(Field field, long deadline) {
+        Entry entry = entriesByField.get(field);
+        if (entry != null) {
+            entry.deadline = deadline;
+            schedule(deadline);
+        }
+    }
+
+    void cancelStoppedTyping(Field field) {
+        Entry entry = entriesByField.get(field);
+        if (entry != null) {
+            entry.deadline = NO_DEADLINE;
+        }
+    }
+
+    private void runDueChecks(long now) {
+        snapshot = entries.toArray(snapshot);
+        for (int i = 0; i < snapshot.length && snapshot[i] != null; i++) {
+            Entry entry = snapshot[i];
+            snapshot[i] = null;
+            if (!entry.removed && entry.deadline <= now) {
+                entry.deadline = NO_DEADLINE;
+                entry.field.onStoppedTyping();
+            }
+        }
+        long nextDeadline = NO_DEADLINE;
+        for (int i = 0; i < entries.size(); i++) {
+            nextDeadline = Math.min(nextDeadline, entries.get(i).deadline);
+        }
+        schedule(nextDeadline);
+    }
+
+    private void schedule(long deadline) {
+        if (deadline >= scheduledDeadline) {
+            return;
+        }
+        if (scheduledDeadline != NO_DEADLINE) {
+            scheduler.removeCallbacks(stoppedTypingChecker);
+        }
+        scheduledDeadline = deadline;
+        scheduleCount++;
+        scheduler.postAtTime(stoppedTypingChecker, deadline);
+    }
+
+    private static final class Entry {
+        final Field field;
+        long deadline = NO_DEADLINE;
+        boolean valid;
+        boolean removed;
+
+        Entry(Field field, boolean valid) {
+            this.field = field;
+            this.valid = valid;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Runs an action at most once per frame, after all edits of the frame.
+ * <p>
+ * An edit only requests the next frame callback, if none is pending, so any count of edits within
+ * a frame is coalesced into one action. When the callback runs in a frame, which is already over
+ * budget (the main thread was busy with the previous frame or the input of this one), the action is
+ * deferred to the next frame, but at most {@link #setMaxDeferredFrames(int) max deferred frames}
+ * in a row, so validation is not starved. Not thread-safe, use on the main thread.
+ */
+public final class FrameValidationScheduler {
+    /**
+     * Frame budget at 60 Hz
+     */
+    public static final long DEFAULT_FRAME_BUDGET_NANOS = 16666667L;
+
+    /**
+     * Posts frame callbacks, Choreographer on Android. The callback calls {@link #doFrame(long, long)}
+     * after the traversal of the frame, so on Android it posts to the main thread Handler, because
+     * Choreographer frame callbacks run before layout and draw.
+     */
+    public interface FrameScheduler {
+        void postFrameCallback();
+
+        void removeFrameCallback();
+    }
+
+    private final FrameScheduler frameScheduler;
+    private final Runnable action;
+    private long frameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+    private int maxDeferredFrames = 2;
+    private boolean pending;
+    private int deferredFrames;
+    private long runCount;
+    private long deferredCount;
+
+    /**
+     * @param frameScheduler frame callback scheduler
+     * @param action         action, which runs once per frame after edits
+     */
+    public FrameValidationScheduler(FrameScheduler frameScheduler, Runnable action) {
+        this.frameScheduler = frameScheduler;
+        this.action = action;
+    }
+
+    /**
+     * Records an edit. Frame callback is posted only if none is pending.
+     */
+    public void onTextChanged() {
+        if (!pending) {
+            pending = true;
+            frameScheduler.postFrameCallback();
+        }
+    }
+
+    /**
+     * Runs the action or defers it to the next frame, if this frame is over budget. Time spent on the
+     * layout and draw of the frame counts towards the budget.
+     *
+     * @param frameTimeNanos start time of the frame
+     * @param nowNanos       current time in the same time base
+     */
+    public void doFrame(long frameTimeNanos, long nowNanos) {
+        if (!pending) {
+            return;
+        }
+        if (nowNanos - frameTimeNanos > frameBudgetNanos && deferredFrames < maxDeferredFrames) {
+            deferredFrames++;
+            deferredCount++;
+            frameScheduler.postFrameCallback();
+            return;
+        }
+        pending = false;
+        deferredFrames = 0;
+        runCount++;
+        action.run();
+    }
+
+    /**
+     * Removes the pending frame callback.
+     */
+    public void cancel() {
+        if (pending) {
+            pending = false;
+            deferredFrames = 0;
+            frameScheduler.removeFrameCallback();
+        }
+    }
+
+    /**
+     * Sets frame budget, for example 8333333 ns on a 120 Hz display. Default is 60 Hz.
+     *
+     * @param frameBudgetNanos frame budget in nanoseconds
+     */
+    public void setFrameBudgetNanos(long frameBudgetNanos) {
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    public long getFrameBudgetNanos() {
+        return frameBudgetNanos;
+    }
+
+    /**
+     * Sets how many frames in a row the action can be deferred. Default is 2, 0 never defers.
+     *
+     * @param maxDeferredFrames max deferred frames
+     */
+    public void setMaxDeferredFrames(int maxDeferredFrames) {
+        this.maxDeferredFrames = maxDeferredFrames;
+    }
+
+    public int getMaxDeferredFrames() {
+        return maxDeferredFrames;
+    }
+
+    /**
+     * @return true if a frame callback is pending
+     */
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * @return count of the action runs
+     */
+    public long getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * @return count of the frames, to which the action was deferred
+     */
+    public long getDeferredCount() {
+        return deferredCount;
+    }
+}
@@ -0,0 +1,11 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Password strength listener, called after every text change.
+ */
+public interface PasswordStrengthListener {
+    /**
+     * @param meter meter of the current text, it is reused and updated on the next change
+     */
+    void onPasswordStrengthChanged(PasswordStrengthMeter meter);
+}
@@ -0,0 +1,265 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Password strength estimate of an edited text: entropy, character class diversity, repeated characters
+ * and sequences such as "abcd" or "1234".
+ * <p>
+ * Meter keeps running counters of the classes and of the repeated and sequential neighbour pairs, which
+ * are updated only for the replaced range of every edit, so an edit costs O(edit size) and the score
+ * is O(1). It follows the TextWatcher protocol like {@link CharacterClassCounter}: when an edit can not
+ * be applied safely, the counters are invalidated and {@link #update(CharSequence)} scans the whole text.
+ * <p>
+ * Entropy is estimated as log2 of the character pool of the used classes for every character, but
+ * a character, which repeats or continues a sequence of its neighbour, adds only one bit.
+ * Meter is not thread-safe.
+ */
+public final class PasswordStrengthMeter {
+    /**
+     * Strength level of the entropy estimate
+     */
+    public enum Strength {
+        /**
+         * Less than 28 bits
+         */
+        VERY_WEAK,
+        /**
+         * 28 - 35 bits
+         */
+        WEAK,
+        /**
+         * 36 - 59 bits
+         */
+        FAIR,
+        /**
+         * 60 - 127 bits
+         */
+        STRONG,
+        /**
+         * 128 bits and more
+         */
+        VERY_STRONG
+    }
+
+    private static final int LOWERCASE = 0;
+    private static final int UPPERCASE = 1;
+    private static final int DIGIT = 2;
+    private static final int SYMBOL = 3;
+    private static final int OTHER = 4;
+    /**
+     * Characters in the pool of every class, OTHER is an estimate for non-ASCII text
+     */
+    private static final int[] POOL_SIZES = {26, 26, 10, 33, 100};
+    private static final double[] LOG2_POOL = new double[1 << POOL_SIZES.length];
+
+    static {
+        for (int classes = 1; classes < LOG2_POOL.length; classes++) {
+            int pool = 0;
+            for (int i = 0; i < POOL_SIZES.length; i++) {
+                if ((classes & (1 << i)) != 0) {
+                    pool += POOL_SIZES[i];
+                }
+            }
+            LOG2_POOL[classes] = Math.log(pool) / Math.log(2);
+        }
+    }
+
+    private final int[] classCounts = new int[POOL_SIZES.length];
+    private int repeatCount;
+    private int sequenceCount;
+    /**
+     * Length of the measured text, -1 when the counters are invalid
+     */
+    private int length = -1;
+    private boolean editPending;
+    private int pendingStart;
+    private int pendingCount;
+
+    /**
+     * Measures the text from scratch.
+     *
+     * @param text password
+     * @return new meter of the text
+     */
+    public static PasswordStrengthMeter measure(CharSequence text) {
+        PasswordStrengthMeter meter = new PasswordStrengthMeter();
+        meter.update(text);
+        return meter;
+    }
+
+    /**
+     * Drops the counters, the next update scans the whole text.
+     */
+    public void invalidate() {
+        length = -1;
+        editPending = false;
+    }
+
+    /**
+     * Removes the characters, which are going to be replaced, from the counters.
+     *
+     * @param text  text before the change
+     * @param start start of the replaced range
+     * @param count length of the replaced range
+     * @param after length of the new text in the range
+     */
+    public void beforeTextChanged(CharSequence text, int start, int count, int after) {
+        editPending = false;
+        if (length != text.length() || (start == 0 && count == length)) {
+            // nothing to keep
+            length = -1;
+            return;
+        }
+        updatePairs(text, start, start + count, -1);
+        updateClasses(text, start, start + count, -1);
+        length -= count;
+        editPending = true;
+        pendingStart = start;
+        pendingCount = after;
+    }
+
+    /**
+     * Adds the new characters to the counters.
+     *
+     * @param text   text after the change
+     * @param start  start of the replaced range
+     * @param before length of the replaced range
+     * @param count  length of the new text in the range
+     */
+    public void onTextChanged(CharSequence text, int start, int before, int count) {
+        if (!editPending || start != pendingStart || count != pendingCount || length + count != text.length()) {
+            invalidate();
+            return;
+        }
+        editPending = false;
+        updateClasses(text, start, start + count, 1);
+        updatePairs(text, start, start + count, 1);
+        length += count;
+    }
+
+    /**
+     * Brings the counters up to date with the text, scans the whole text only if they are invalid.
+     *
+     * @param text current text
+     */
+    public void update(CharSequence text) {
+        if (editPending || length != text.length()) {
+            for (int i = 0; i < classCounts.length; i++) {
+                classCounts[i] = 0;
+            }
+            repeatCount = 0;
+            sequenceCount = 0;
+            updateClasses(text, 0, text.length(), 1);
+            updatePairs(text, 0, text.length(), 1);
+            length = text.length();
+            editPending = false;
+        }
+    }
+
+    /**
+     * @return length of the measured text
+     */
+    public int getLength() {
+        return Math.max(length, 0);
+    }
+
+    /**
+     * @return count of the used character classes: lowercase, uppercase, digits, symbols and non-ASCII
+     */
+    public int getClassCount() {
+        return Integer.bitCount(classes());
+    }
+
+    /**
+     * @return count of the characters, which are the same as the previous one
+     */
+    public int getRepeatCount() {
+        return repeatCount;
+    }
+
+    /**
+     * @return count of the letters and digits, which continue an ascending or descending sequence
+     */
+    public int getSequenceCount() {
+        return sequenceCount;
+    }
+
+    /**
+     * @return entropy estimate in bits
+     */
+    public double getEntropyBits() {
+        int classes = classes();
+        if (classes == 0) {
+            return 0;
+        }
+        int predictable = repeatCount + sequenceCount;
+        return (getLength() - predictable) * LOG2_POOL[classes] + predictable;
+    }
+
+    /**
+     * @return strength level of the entropy estimate
+     */
+    public Strength getStrength() {
+        double bits = getEntropyBits();
+        if (bits < 28) {
+            return Strength.VERY_WEAK;
+        } else if (bits < 36) {
+            return Strength.WEAK;
+        } else if (bits < 60) {
+            return Strength.FAIR;
+        } else if (bits < 128) {
+            return Strength.STRONG;
+        }
+        return Strength.VERY_STRONG;
+    }
+
+    @Override
+    public String toString() {
+        return getStrength() + "(" + Math.round(getEntropyBits()) + " bits)";
+    }
+
+    private int classes() {
+        int classes = 0;
+        for (int i = 0; i < classCounts.length; i++) {
+            if (classCounts[i] > 0) {
+                classes |= 1 << i;
+            }
+        }
+        return classes;
+    }
+
+    private void updateClasses(CharSequence text, int start, int end, int delta) {
+        for (int i = start; i < end; i++) {
+            classCounts[classOf(text.charAt(i))] += delta;
+        }
+    }
+
+    /**
+     * Updates the neighbour pairs, which end in the range or right after it.
+     */
+    private void updatePairs(CharSequence text, int start, int end, int delta) {
+        int last = Math.min(end, text.length() - 1);
+        for (int i = Math.max(start, 1); i <= last; i++) {
+            char previous = text.charAt(i - 1);
+            char current = text.charAt(i);
+            if (previous == current) {
+                repeatCount += delta;
+            } else if ((current == previous + 1 || current == previous - 1) && classOf(previous) == classOf(current)
+                    && classOf(current) != SYMBOL && classOf(current) != OTHER) {
+                sequenceCount += delta;
+            }
+        }
+    }
+
+    private static int classOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return LOWERCASE;
+        } else if (c >= 'A' && c <= 'Z') {
+            return UPPERCASE;
+        } else if (c >= '0' && c <= '9') {
+            return DIGIT;
+        } else if (c >= ' ' && c < 127) {
+            return SYMBOL;
+        }
+        return OTHER;
+    }
+}
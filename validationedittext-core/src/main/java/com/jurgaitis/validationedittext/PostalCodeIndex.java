@@ -0,0 +1,193 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reverse postal code lookup: finds all countries, whose postal code pattern matches the value.
+ * <p>
+ * Countries sharing the same regex are merged into one group. Digit only regexes
+ * (e.g. {@code ^\d{5}$}, {@code ^\d{4,5}$}, {@code ^972\d{2}$}) are answered from a table indexed by the
+ * value length, so they cost no regex evaluation. Remaining regexes run only when the first character
+ * of the value can start a match, with the patterns, which {@link PostalCodeValidator} compiles once.
+ * Country sets are bitmasks over the PostalCodeValidator table.
+ * <p>
+ * Digits of the value are tested like the patterns test {@code \d}: on Android it is ICU {@code \p{Nd}},
+ * see {@link CharacterClasses#isDigit(int)}, on the JVM only [0-9].
+ */
+final class PostalCodeIndex {
+    // ^ + literal digits + optional \d, \d{N} or \d{N,M} + $
+    private static final Pattern DIGIT_REGEX = Pattern.compile("\\^(\\d*)(\\\\d(?:\\{(\\d+)(?:,(\\d+))?\\})?)?\\$");
+    private static final int ASCII_SIZE = 128;
+    /**
+     * \d of the platform patterns matches ARABIC-INDIC DIGIT ONE
+     */
+    static final boolean UNICODE_DIGITS = Pattern.compile("\\d").matcher("\u0661").matches();
+
+    /**
+     * Compiled pattern of a PostalCodeValidator table entry
+     */
+    interface Patterns {
+        Pattern get(int index);
+    }
+
+    private final int words;
+    private final boolean unicodeDigits;
+    // digitRules[length] - digit only groups, which accept values of the length
+    private final DigitRule[][] digitRules;
+    private final PatternRule[] patternRules;
+
+    /**
+     * @param regexes       regexes of the PostalCodeValidator table, null or empty for no postal code
+     * @param patterns      compiled patterns of the table
+     * @param unicodeDigits true if \d of the patterns matches every \p{Nd} digit, see {@link #UNICODE_DIGITS}
+     */
+    PostalCodeIndex(String[] regexes, Patterns patterns, boolean unicodeDigits) {
+        this.unicodeDigits = unicodeDigits;
+        words = (regexes.length + 63) >>> 6;
+        // first table index of every regex
+        Map<String, Integer> firstIndexes = new LinkedHashMap<String, Integer>();
+        Map<String, long[]> groups = new LinkedHashMap<String, long[]>();
+        for (int i = 0; i < regexes.length; i++) {
+            String regex = regexes[i];
+            if (regex == null || regex.isEmpty()) {
+                continue;
+            }
+            long[] countries = groups.get(regex);
+            if (countries == null) {
+                countries = new long[words];
+                groups.put(regex, countries);
+                firstIndexes.put(regex, i);
+            }
+            countries[i >>> 6] |= 1L << i;
+        }
+
+        List<List<DigitRule>> digitRuleLists = new ArrayList<List<DigitRule>>();
+        List<PatternRule> patternRuleList = new ArrayList<PatternRule>();
+        for (Map.Entry<String, long[]> group : groups.entrySet()) {
+            Matcher matcher = DIGIT_REGEX.matcher(group.getKey());
+            if (!matcher.matches()) {
+                Pattern pattern = patterns.get(firstIndexes.get(group.getKey()));
+                patternRuleList.add(new PatternRule(pattern, group.getValue()));
+                continue;
+            }
+            String prefix = matcher.group(1);
+            int minDigits = 0;
+            int maxDigits = 0;
+            if (matcher.group(2) != null) {
+                minDigits = matcher.group(3) != null ? Integer.parseInt(matcher.group(3)) : 1;
+                maxDigits = matcher.group(4) != null ? Integer.parseInt(matcher.group(4)) : minDigits;
+            }
+            for (int length = prefix.length() + minDigits; length <= prefix.length() + maxDigits; length++) {
+                while (digitRuleLists.size() <= length) {
+                    digitRuleLists.add(new ArrayList<DigitRule>());
+                }
+                addDigitRule(digitRuleLists.get(length), prefix, group.getValue());
+            }
+        }
+
+        digitRules = new DigitRule[digitRuleLists.size()][];
+        for (int length = 0; length < digitRules.length; length++) {
+            digitRules[length] = digitRuleLists.get(length).toArray(new DigitRule[0]);
+        }
+        patternRules = patternRuleList.toArray(new PatternRule[patternRuleList.size()]);
+    }
+
+    /**
+     * Finds countries, whose postal code pattern matches the value.
+     *
+     * @param value value to be checked
+     * @return bitmask of matching countries, indexed like the PostalCodeValidator table
+     */
+    long[] find(CharSequence value) {
+        long[] countries = new long[words];
+        int length = value.length();
+        boolean onlyDigits = true;
+        // \d counts code points, supplementary digits take two chars
+        int digitCount = 0;
+        for (int i = 0; i < length && onlyDigits; digitCount++) {
+            int codePoint = CharacterClasses.codePointAt(value, i, length);
+            onlyDigits = codePoint >= '0' && codePoint <= '9' || unicodeDigits && CharacterClasses.isDigit(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        if (onlyDigits && digitCount < digitRules.length) {
+            for (DigitRule rule : digitRules[digitCount]) {
+                if (rule.matches(value)) {
+                    or(countries, rule.countries);
+                }
+            }
+        }
+        char first = length > 0 ? value.charAt(0) : 0;
+        for (PatternRule rule : patternRules) {
+            if (rule.canStartWith(first, length) && rule.pattern.matcher(value).matches()) {
+                or(countries, rule.countries);
+            }
+        }
+        return countries;
+    }
+
+    private static void addDigitRule(List<DigitRule> rules, String prefix, long[] countries) {
+        for (DigitRule rule : rules) {
+            if (rule.prefix.equals(prefix)) {
+                or(rule.countries, countries);
+                return;
+            }
+        }
+        rules.add(new DigitRule(prefix, countries.clone()));
+    }
+
+    private static void or(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= source[i];
+        }
+    }
+
+    private static final class DigitRule {
+        final String prefix;
+        final long[] countries;
+
+        DigitRule(String prefix, long[] countries) {
+            this.prefix = prefix;
+            this.countries = countries;
+        }
+
+        boolean matches(CharSequence value) {
+            for (int i = 0; i < prefix.length(); i++) {
+                if (value.charAt(i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class PatternRule {
+        final Pattern pattern;
+        final long[] countries;
+        final boolean matchesEmpty;
+        // startsWith[c] - a match can start with the ASCII character c
+        final boolean[] startsWith = new boolean[ASCII_SIZE];
+
+        PatternRule(Pattern pattern, long[] countries) {
+            this.pattern = pattern;
+            this.countries = countries;
+            matchesEmpty = pattern.matcher("").matches();
+            for (char c = 0; c < ASCII_SIZE; c++) {
+                // hitEnd means more input could still produce a match
+                Matcher matcher = pattern.matcher(String.valueOf(c));
+                startsWith[c] = matcher.matches() || matcher.hitEnd();
+            }
+        }
+
+        boolean canStartWith(char first, int length) {
+            if (length == 0) {
+                return matchesEmpty;
+            }
+            return first >= ASCII_SIZE || startsWith[first];
+        }
+    }
+}
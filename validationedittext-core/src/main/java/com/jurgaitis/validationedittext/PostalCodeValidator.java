@@ -0,0 +1,439 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * Postal code validation keyed by ISO 3166-1 alpha-2 country code.
+ * <p>
+ * Country is looked up in a table indexed by the two letters of the code, so lookup takes constant time.
+ * Pattern of the country is compiled once, on the first use, and kept for the lifetime of the process.
+ * Countries without postal codes are known to the validator and reported as {@link Result#NOT_REQUIRED}.
+ * Besides officially assigned codes, AC (Ascension Island), TA (Tristan da Cunha) and XK (Kosovo) are known.
+ * All methods are thread-safe.
+ */
+public final class PostalCodeValidator {
+    /**
+     * Result of the postal code validation
+     */
+    public enum Result {
+        /**
+         * Value is valid postal code of the country
+         */
+        VALID,
+        /**
+         * Value is not valid postal code of the country
+         */
+        INVALID,
+        /**
+         * Country does not use postal codes, so any value is accepted
+         */
+        NOT_REQUIRED,
+        /**
+         * Country code is not known
+         */
+        UNKNOWN_COUNTRY
+    }
+
+    private static final int LETTER_COUNT = 'Z' - 'A' + 1;
+    private static final int TABLE_SIZE = LETTER_COUNT * LETTER_COUNT;
+    private static final String NO_POSTAL_CODE = "";
+
+    // null - unknown country, NO_POSTAL_CODE - country does not use postal codes
+    private static final String[] REGEXES = new String[TABLE_SIZE];
+    private static final AtomicReferenceArray<Pattern> PATTERNS = new AtomicReferenceArray<Pattern>(TABLE_SIZE);
+    // guards compilation, so racing threads compile a pattern once
+    private static final Object COMPILE_LOCK = new Object();
+    private static final AtomicInteger COMPILE_COUNT = new AtomicInteger();
+
+    static {
+        register("AF", PostalCodeRegex.AFGHANISTAN);
+        register("AX", PostalCodeRegex.ALAND_ISLANDS);
+        register("AL", PostalCodeRegex.ALBANIA);
+        register("DZ", PostalCodeRegex.ALGERIA);
+        register("AS", PostalCodeRegex.AMERICAN_SAMOA);
+        register("AD", PostalCodeRegex.ANDORRA);
+        register("AO", PostalCodeRegex.ANGOLA);
+        register("AI", PostalCodeRegex.ANGUILLA);
+        register("AG", PostalCodeRegex.ANTIGUA_AND_BARBUDA);
+        register("AR", PostalCodeRegex.ARGENTINA);
+        register("AM", PostalCodeRegex.ARMENIA);
+        register("AW", PostalCodeRegex.ARUBA);
+        register("AC", PostalCodeRegex.ASCENSION_ISLAND);
+        register("AU", PostalCodeRegex.AUSTRALIA);
+        register("AT", PostalCodeRegex.AUSTRIA);
+        register("AZ", PostalCodeRegex.AZERBAIJAN);
+        register("BS", PostalCodeRegex.BAHAMAS);
+        register("BH", PostalCodeRegex.BAHRAIN);
+        register("BD", PostalCodeRegex.BANGLADESH);
+        register("BB", PostalCodeRegex.BARBADOS);
+        register("BY", PostalCodeRegex.BELARUS);
+        register("BE", PostalCodeRegex.BELGIUM);
+        register("BZ", PostalCodeRegex.BELIZE);
+        register("BJ", PostalCodeRegex.BENIN);
+        register("BM", PostalCodeRegex.BERMUDA);
+        register("BT", PostalCodeRegex.BHUTAN);
+        register("BO", PostalCodeRegex.BOLIVIA);
+        register("BQ", PostalCodeRegex.BONAIRE_SINT_EUSTATIUS_AND_SABA);
+        register("BA", PostalCodeRegex.BOSNIA_AND_HERZEGOVINA);
+        register("BW", PostalCodeRegex.BOTSWANA);
+        register("BR", PostalCodeRegex.BRAZIL);
+        register("IO", PostalCodeRegex.BRITISH_INDIAN_OCEAN_TERRITORY);
+        register("VG", PostalCodeRegex.BRITISH_VIRGIN_ISLANDS);
+        register("BN", PostalCodeRegex.BRUNEI);
+        register("BG", PostalCodeRegex.BULGARIA);
+        register("BF", PostalCodeRegex.BURKINA_FASO);
+        register("BI", PostalCodeRegex.BURUNDI);
+        register("KH", PostalCodeRegex.CAMBODIA);
+        register("CM", PostalCodeRegex.CAMEROON);
+        register("CA", PostalCodeRegex.CANADA);
+        register("CV", PostalCodeRegex.CAPE_VERDE);
+        register("KY", PostalCodeRegex.CAYMAN_ISLANDS);
+        register("CF", PostalCodeRegex.CENTRAL_AFRICAN_REPUBLIC);
+        register("TD", PostalCodeRegex.CHAD);
+        register("CL", PostalCodeRegex.CHILE);
+        register("CN", PostalCodeRegex.CHINA);
+        register("CX", PostalCodeRegex.CHRISTMAS_ISLAND);
+        register("CC", PostalCodeRegex.COCOS_KEELING_ISLAND);
+        register("CO", PostalCodeRegex.COLOMBIA);
+        register("KM", PostalCodeRegex.COMOROS);
+        register("CG", PostalCodeRegex.CONGO_BRAZZAVILLE);
+        register("CD", PostalCodeRegex.CONGO_DEMOCRATIC_REPUBLIC);
+        register("CK", PostalCodeRegex.COOK_ISLANDS);
+        register("CR", PostalCodeRegex.COSTA_RICA);
+        register("CI", PostalCodeRegex.CoTE_D_IVOIRE_IVORY_COAST);
+        register("HR", PostalCodeRegex.CROATIA);
+        register("CU", PostalCodeRegex.CUBA);
+        register("CW", PostalCodeRegex.CURACAO);
+        register("CY", PostalCodeRegex.CYPRUS);
+        register("CZ", PostalCodeRegex.CZECH_REPUBLIC);
+        register("DK", PostalCodeRegex.DENMARK);
+        register("DJ", PostalCodeRegex.DJIBOUTI);
+        register("DM", PostalCodeRegex.DOMINICA);
+        register("DO", PostalCodeRegex.DOMINICAN_REPUBLIC);
+        register("TL", PostalCodeRegex.EAST_TIMOR);
+        register("EC", PostalCodeRegex.ECUADOR);
+        register("SV", PostalCodeRegex.EL_SALVADOR);
+        register("EG", PostalCodeRegex.EGYPT);
+        register("GQ", PostalCodeRegex.EQUATORIAL_GUINEA);
+        register("ER", PostalCodeRegex.ERITREA);
+        register("EE", PostalCodeRegex.ESTONIA);
+        register("ET", PostalCodeRegex.ETHIOPIA);
+        register("FK", PostalCodeRegex.FALKLAND_ISLANDS);
+        register("FO", PostalCodeRegex.FAROE_ISLANDS);
+        register("FJ", PostalCodeRegex.FIJI);
+        register("FI", PostalCodeRegex.FINLAND);
+        register("FR", PostalCodeRegex.FRANCE);
+        register("GF", PostalCodeRegex.FRENCH_GUIANA);
+        register("PF", PostalCodeRegex.FRENCH_POLYNESIA);
+        register("TF", PostalCodeRegex.FRENCH_SOUTHERN_AND_ANTARCTIC_TERRITORIES);
+        register("GA", PostalCodeRegex.GABON);
+        register("GM", PostalCodeRegex.GAMBIA);
+        register("GE", PostalCodeRegex.GEORGIA);
+        register("DE", PostalCodeRegex.GERMANY);
+        register("GH", PostalCodeRegex.GHANA);
+        register("GI", PostalCodeRegex.GIBRALTAR);
+        register("GR", PostalCodeRegex.GREECE);
+        register("GL", PostalCodeRegex.GREENLAND);
+        register("GD", PostalCodeRegex.GRENADA);
+        register("GP", PostalCodeRegex.GUADELOUPE);
+        register("GU", PostalCodeRegex.GUAM);
+        register("GT", PostalCodeRegex.GUATEMALA);
+        register("GG", PostalCodeRegex.GUERNSEY);
+        register("GN", PostalCodeRegex.GUINEA);
+        register("GW", PostalCodeRegex.GUINEA_BISSAU);
+        register("GY", PostalCodeRegex.GUYANA);
+        register("HT", PostalCodeRegex.HAITI);
+        register("HM", PostalCodeRegex.HEARD_AND_MCDONALD_ISLANDS);
+        register("HN", PostalCodeRegex.HONDURAS);
+        register("HK", PostalCodeRegex.HONG_KONG);
+        register("HU", PostalCodeRegex.HUNGARY);
+        register("IS", PostalCodeRegex.ICELAND);
+        register("IN", PostalCodeRegex.INDIA);
+        register("ID", PostalCodeRegex.INDONESIA);
+        register("IR", PostalCodeRegex.IRAN);
+        register("IQ", PostalCodeRegex.IRAQ);
+        register("IE", PostalCodeRegex.IRELAND);
+        register("IM", PostalCodeRegex.ISLE_OF_MAN);
+        register("IL", PostalCodeRegex.ISRAEL);
+        register("IT", PostalCodeRegex.ITALY);
+        register("JM", PostalCodeRegex.JAMAICA);
+        register("JP", PostalCodeRegex.JAPAN);
+        register("JE", PostalCodeRegex.JERSEY);
+        register("JO", PostalCodeRegex.JORDAN);
+        register("KZ", PostalCodeRegex.KAZAKHSTAN);
+        register("KE", PostalCodeRegex.KENYA);
+        register("KI", PostalCodeRegex.KIRIBATI);
+        register("KP", PostalCodeRegex.KOREA_NORTH);
+        register("KR", PostalCodeRegex.KOREA_SOUTH);
+        register("XK", PostalCodeRegex.KOSOVO);
+        register("KW", PostalCodeRegex.KUWAIT);
+        register("KG", PostalCodeRegex.KYRGYZSTAN);
+        register("LV", PostalCodeRegex.LATVIA);
+        register("LA", PostalCodeRegex.LAOS);
+        register("LB", PostalCodeRegex.LEBANON);
+        register("LS", PostalCodeRegex.LESOTHO);
+        register("LR", PostalCodeRegex.LIBERIA);
+        register("LY", PostalCodeRegex.LIBYA);
+        register("LI", PostalCodeRegex.LIECHTENSTEIN);
+        register("LT", PostalCodeRegex.LITHUANIA);
+        register("LU", PostalCodeRegex.LUXEMBOURG);
+        register("MO", PostalCodeRegex.MACAU);
+        register("MK", PostalCodeRegex.MACEDONIA);
+        register("MG", PostalCodeRegex.MADAGASCAR);
+        register("MW", PostalCodeRegex.MALAWI);
+        register("MV", PostalCodeRegex.MALDIVES);
+        register("MY", PostalCodeRegex.MALAYSIA);
+        register("ML", PostalCodeRegex.MALI);
+        register("MT", PostalCodeRegex.MALTA);
+        register("MH", PostalCodeRegex.MARSHALL_ISLANDS);
+        register("MR", PostalCodeRegex.MAURITANIA);
+        register("MU", PostalCodeRegex.MAURITIUS);
+        register("MQ", PostalCodeRegex.MARTINIQUE);
+        register("YT", PostalCodeRegex.MAYOTTE);
+        register("FM", PostalCodeRegex.MICRONESIA);
+        register("MX", PostalCodeRegex.MEXICO);
+        register("MD", PostalCodeRegex.MOLDOVA);
+        register("MC", PostalCodeRegex.MONACO);
+        register("MN", PostalCodeRegex.MONGOLIA);
+        register("ME", PostalCodeRegex.MONTENEGRO);
+        register("MS", PostalCodeRegex.MONTSERRAT);
+        register("MA", PostalCodeRegex.MOROCCO);
+        register("MZ", PostalCodeRegex.MOZAMBIQUE);
+        register("MM", PostalCodeRegex.MYANMAR);
+        register("NA", PostalCodeRegex.NAMIBIA);
+        register("NR", PostalCodeRegex.NAURU);
+        register("NP", PostalCodeRegex.NEPAL);
+        register("NL", PostalCodeRegex.NETHERLANDS);
+        register("NC", PostalCodeRegex.NEW_CALEDONIA);
+        register("NZ", PostalCodeRegex.NEW_ZEALAND);
+        register("NI", PostalCodeRegex.NICARAGUA);
+        register("NE", PostalCodeRegex.NIGER);
+        register("NG", PostalCodeRegex.NIGERIA);
+        register("NU", PostalCodeRegex.NIUE);
+        register("NF", PostalCodeRegex.NORFOLK_ISLAND);
+        register("MP", PostalCodeRegex.NORTHERN_MARIANA_ISLANDS);
+        register("NO", PostalCodeRegex.NORWAY);
+        register("OM", PostalCodeRegex.OMAN);
+        register("PK", PostalCodeRegex.PAKISTAN);
+        register("PW", PostalCodeRegex.PALAU);
+        register("PA", PostalCodeRegex.PANAMA);
+        register("PG", PostalCodeRegex.PAPUA_NEW_GUINEA);
+        register("PY", PostalCodeRegex.PARAGUAY);
+        register("PE", PostalCodeRegex.PERU);
+        register("PH", PostalCodeRegex.PHILIPPINES);
+        register("PN", PostalCodeRegex.PITCAIRN_ISLANDS);
+        register("PL", PostalCodeRegex.POLAND);
+        register("PT", PostalCodeRegex.PORTUGAL);
+        register("PR", PostalCodeRegex.PUERTO_RICO);
+        register("QA", PostalCodeRegex.QATAR);
+        register("RE", PostalCodeRegex.REUNION);
+        register("RO", PostalCodeRegex.ROMANIA);
+        register("RU", PostalCodeRegex.RUSSIA);
+        register("BL", PostalCodeRegex.SAINT_BARTHELEMY);
+        register("SH", PostalCodeRegex.SAINT_HELENA);
+        register("KN", PostalCodeRegex.SAINT_KITTS_AND_NEVIS);
+        register("LC", PostalCodeRegex.SAINT_LUCIA);
+        register("MF", PostalCodeRegex.SAINT_MARTIN);
+        register("PM", PostalCodeRegex.SAINT_PIERRE_AND_MIQUELON);
+        register("VC", PostalCodeRegex.SAINT_VINCENT_AND_THE_GRENADINES);
+        register("SM", PostalCodeRegex.SAN_MARINO);
+        register("ST", PostalCodeRegex.SAO_TOME_AND_PRINCIPE);
+        register("SA", PostalCodeRegex.SAUDI_ARABIA);
+        register("SN", PostalCodeRegex.SENEGAL);
+        register("RS", PostalCodeRegex.SERBIA);
+        register("SC", PostalCodeRegex.SEYCHELLES);
+        register("SX", PostalCodeRegex.SINT_MAARTEN);
+        register("SL", PostalCodeRegex.SIERRA_LEONE);
+        register("SG", PostalCodeRegex.SINGAPORE);
+        register("SK", PostalCodeRegex.SLOVAKIA);
+        register("SI", PostalCodeRegex.SLOVENIA);
+        register("SB", PostalCodeRegex.SOLOMON_ISLANDS);
+        register("SO", PostalCodeRegex.SOMALIA);
+        register("ZA", PostalCodeRegex.SOUTH_AFRICA);
+        register("GS", PostalCodeRegex.SOUTH_GEORGIA_AND_THE_SOUTH_SANDWICH_ISLANDS);
+        register("ES", PostalCodeRegex.SPAIN);
+        register("LK", PostalCodeRegex.SRI_LANKA);
+        register("SD", PostalCodeRegex.SUDAN);
+        register("SR", PostalCodeRegex.SURINAME);
+        register("SZ", PostalCodeRegex.SWAZILAND);
+        register("SE", PostalCodeRegex.SWEDEN);
+        register("CH", PostalCodeRegex.SWITZERLAND);
+        register("SJ", PostalCodeRegex.SVALBARD_AND_JAN_MAYEN);
+        register("SY", PostalCodeRegex.SYRIA);
+        register("TW", PostalCodeRegex.TAIWAN);
+        register("TJ", PostalCodeRegex.TAJIKISTAN);
+        register("TZ", PostalCodeRegex.TANZANIA);
+        register("TH", PostalCodeRegex.THAILAND);
+        register("TG", PostalCodeRegex.TOGO);
+        register("TK", PostalCodeRegex.TOKELAU);
+        register("TO", PostalCodeRegex.TONGA);
+        register("TT", PostalCodeRegex.TRINIDAD_AND_TOBAGO);
+        register("TA", PostalCodeRegex.TRISTAN_DA_CUNHA);
+        register("TN", PostalCodeRegex.TUNISIA);
+        register("TR", PostalCodeRegex.TURKEY);
+        register("TM", PostalCodeRegex.TURKMENISTAN);
+        register("TC", PostalCodeRegex.TURKS_AND_CAICOS_ISLANDS);
+        register("TV", PostalCodeRegex.TUVALU);
+        register("UG", PostalCodeRegex.UGANDA);
+        register("UA", PostalCodeRegex.UKRAINE);
+        register("AE", PostalCodeRegex.UNITED_ARAB_EMIRATES);
+        register("GB", PostalCodeRegex.UNITED_KINGDOM);
+        register("US", PostalCodeRegex.UNITED_STATES);
+        register("UY", PostalCodeRegex.URUGUAY);
+        register("VI", PostalCodeRegex.US_VIRGIN_ISLANDS);
+        register("UZ", PostalCodeRegex.UZBEKISTAN);
+        register("VU", PostalCodeRegex.VANUATU);
+        register("VA", PostalCodeRegex.VATICAN);
+        register("VE", PostalCodeRegex.VENEZUELA);
+        register("VN", PostalCodeRegex.VIETNAM);
+        register("WF", PostalCodeRegex.WALLIS_AND_FUTUNA);
+        register("YE", PostalCodeRegex.YEMEN);
+        register("ZM", PostalCodeRegex.ZAMBIA);
+        register("ZW", PostalCodeRegex.ZIMBABWE);
+    }
+
+    private PostalCodeValidator() {
+    }
+
+    /**
+     * Checks if the value is valid postal code of the country.
+     *
+     * @param countryCode ISO 3166-1 alpha-2 country code, letter case is ignored
+     * @param value       value to be checked
+     * @return validation result
+     */
+    public static Result validate(String countryCode, CharSequence value) {
+        int index = indexOf(countryCode);
+        if (index < 0) {
+            return Result.UNKNOWN_COUNTRY;
+        }
+        String regex = REGEXES[index];
+        if (regex == null) {
+            return Result.UNKNOWN_COUNTRY;
+        }
+        if (regex == NO_POSTAL_CODE) {
+            return Result.NOT_REQUIRED;
+        }
+        return pattern(index).matcher(value).matches() ? Result.VALID : Result.INVALID;
+    }
+
+    /**
+     * Gets compiled postal code pattern of the country.
+     *
+     * @param countryCode ISO 3166-1 alpha-2 country code, letter case is ignored
+     * @return compiled pattern or null, if the country does not use postal codes
+     * @throws IllegalArgumentException if the country code is not known
+     */
+    public static Pattern getPattern(String countryCode) {
+        int index = indexOf(countryCode);
+        if (index < 0 || REGEXES[index] == null) {
+            throw new IllegalArgumentException("Unknown country code: " + countryCode);
+        }
+        return REGEXES[index] == NO_POSTAL_CODE ? null : pattern(index);
+    }
+
+    /**
+     * @param countryCode ISO 3166-1 alpha-2 country code, letter case is ignored
+     * @return true if the country is known, otherwise false
+     */
+    public static boolean isKnownCountry(String countryCode) {
+        int index = indexOf(countryCode);
+        return index >= 0 && REGEXES[index] != null;
+    }
+
+    /**
+     * @param countryCode ISO 3166-1 alpha-2 country code, letter case is ignored
+     * @return true if the country is known and uses postal codes, otherwise false
+     */
+    public static boolean isPostalCodeRequired(String countryCode) {
+        int index = indexOf(countryCode);
+        return index >= 0 && REGEXES[index] != null && REGEXES[index] != NO_POSTAL_CODE;
+    }
+
+    /**
+     * Finds all countries, whose postal code pattern matches the value, e.g. for address autocompletion.
+     * Value is checked against all countries in a single pass, see {@link PostalCodeIndex}.
+     *
+     * @param value value to be checked
+     * @return ISO 3166-1 alpha-2 codes of matching countries in alphabetical order
+     */
+    public static List<String> findCountries(CharSequence value) {
+        long[] countries = IndexHolder.INDEX.find(value);
+        List<String> countryCodes = new ArrayList<String>();
+        for (int word = 0; word < countries.length; word++) {
+            long bits = countries[word];
+            while (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                countryCodes.add(countryCode(index));
+                bits &= bits - 1;
+            }
+        }
+        return countryCodes;
+    }
+
+    private static String countryCode(int index) {
+        return new String(new char[]{(char) ('A' + index / LETTER_COUNT), (char) ('A' + index % LETTER_COUNT)});
+    }
+
+    /**
+     * @return count of compiled patterns
+     */
+    static int getCompileCount() {
+        return COMPILE_COUNT.get();
+    }
+
+    private static Pattern pattern(int index) {
+        Pattern pattern = PATTERNS.get(index);
+        if (pattern != null) {
+            return pattern;
+        }
+        synchronized (COMPILE_LOCK) {
+            pattern = PATTERNS.get(index);
+            if (pattern == null) {
+                pattern = Pattern.compile(REGEXES[index]);
+                COMPILE_COUNT.incrementAndGet();
+                PATTERNS.set(index, pattern);
+            }
+            return pattern;
+        }
+    }
+
+    private static int indexOf(String countryCode) {
+        if (countryCode == null || countryCode.length() != 2) {
+            return -1;
+        }
+        int first = letterIndex(countryCode.charAt(0));
+        int second = letterIndex(countryCode.charAt(1));
+        if (first < 0 || second < 0) {
+            return -1;
+        }
+        return first * LETTER_COUNT + second;
+    }
+
+    private static int letterIndex(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return -1;
+    }
+
+    private static void register(String countryCode, String regex) {
+        REGEXES[indexOf(countryCode)] = regex.isEmpty() ? NO_POSTAL_CODE : regex;
+    }
+
+    private static final class IndexHolder {
+        static final PostalCodeIndex INDEX = new PostalCodeIndex(REGEXES, new PostalCodeIndex.Patterns() {
+            @Override
+            public Pattern get(int index) {
+                return pattern(index);
+            }
+        }, PostalCodeIndex.UNICODE_DIGITS);
+    }
+}
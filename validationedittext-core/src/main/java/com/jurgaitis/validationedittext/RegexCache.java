@@ -0,0 +1,123 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Process-wide, size-bounded LRU cache of compiled user supplied regexes.
+ * All methods are thread-safe.
+ */
+public final class RegexCache {
+    /**
+     * Default max count of compiled patterns kept in the cache
+     */
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    private static final Object LOCK = new Object();
+    private static int maxSize = DEFAULT_MAX_SIZE;
+    private static long hitCount;
+    private static long missCount;
+    private static long evictionCount;
+    private static final LinkedHashMap<String, Pattern> PATTERNS =
+            new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+                    if (size() > maxSize) {
+                        evictionCount++;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+
+    private RegexCache() {
+    }
+
+    /**
+     * Gets compiled pattern for the regex. Regex is compiled only if it is not in the cache.
+     *
+     * @param regex regex string
+     * @return compiled pattern
+     */
+    public static Pattern get(String regex) {
+        synchronized (LOCK) {
+            Pattern pattern = PATTERNS.get(regex);
+            if (pattern != null) {
+                hitCount++;
+                return pattern;
+            }
+            missCount++;
+        }
+        // compiling outside the lock, so a slow regex does not block other callers
+        Pattern pattern = Pattern.compile(regex);
+        synchronized (LOCK) {
+            Pattern cached = PATTERNS.get(regex);
+            if (cached != null) {
+                return cached;
+            }
+            PATTERNS.put(regex, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Sets max count of compiled patterns kept in the cache. Least recently used patterns are evicted first.
+     *
+     * @param maxSize max cache size, must be greater than 0
+     */
+    public static void setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+        synchronized (LOCK) {
+            RegexCache.maxSize = maxSize;
+            while (PATTERNS.size() > maxSize) {
+                PATTERNS.remove(PATTERNS.keySet().iterator().next());
+                evictionCount++;
+            }
+        }
+    }
+
+    public static int getMaxSize() {
+        synchronized (LOCK) {
+            return maxSize;
+        }
+    }
+
+    public static int size() {
+        synchronized (LOCK) {
+            return PATTERNS.size();
+        }
+    }
+
+    public static long getHitCount() {
+        synchronized (LOCK) {
+            return hitCount;
+        }
+    }
+
+    public static long getMissCount() {
+        synchronized (LOCK) {
+            return missCount;
+        }
+    }
+
+    public static long getEvictionCount() {
+        synchronized (LOCK) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * Removes all compiled patterns and resets the counters.
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            PATTERNS.clear();
+            hitCount = 0;
+            missCount = 0;
+            evictionCount = 0;
+        }
+    }
+}
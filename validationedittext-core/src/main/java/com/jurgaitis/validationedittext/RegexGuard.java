@@ -0,0 +1,183 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Guards regex matching of untrusted patterns against catastrophic backtracking.
+ * <p>
+ * Matcher reads the text through a wrapper, which counts character accesses and checks the deadline.
+ * When the budget is used up, matching is aborted and {@link Result#TIMED_OUT} is returned instead of
+ * hanging. Guard is thread-safe and can be shared, counters are summed over all callers.
+ * <p>
+ * On Android java.util.regex is backed by ICU, which copies the text before matching, so the matcher
+ * never reads through the wrapper and the budget is not enforced there. The timeout is enforced by
+ * {@link AsyncValidationEngine} instead: plans with a guard timeout run off the main thread and a timed
+ * out result is delivered, when the timeout passes, without waiting for the match.
+ */
+public final class RegexGuard {
+    /**
+     * Result of the guarded matching
+     */
+    public enum Result {
+        MATCHED,
+        NOT_MATCHED,
+        /**
+         * Matching was aborted, because the budget was used up
+         */
+        TIMED_OUT
+    }
+
+    /**
+     * Deadline is checked once per this count of character accesses, so System.nanoTime() is rarely called
+     */
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final long maxCharAccesses;
+    private final long timeoutNanos;
+    private final AtomicLong checkCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    /**
+     * @param maxCharAccesses max count of character reads of a single match, 0 - unlimited
+     * @param timeoutMillis   max duration of a single match in milliseconds, 0 - unlimited
+     */
+    public RegexGuard(long maxCharAccesses, long timeoutMillis) {
+        if (maxCharAccesses < 0 || timeoutMillis < 0) {
+            throw new IllegalArgumentException("Budget cannot be negative");
+        }
+        this.maxCharAccesses = maxCharAccesses == 0 ? Long.MAX_VALUE : maxCharAccesses;
+        this.timeoutNanos = timeoutMillis * 1000000L;
+    }
+
+    /**
+     * Checks if the whole text matches the pattern.
+     *
+     * @param pattern pattern
+     * @param text    text to be checked
+     * @return matching result
+     */
+    public Result matches(Pattern pattern, CharSequence text) {
+        GuardedText guardedText = new GuardedText();
+        return match(pattern.matcher(guardedText), guardedText, text, true);
+    }
+
+    /**
+     * Checks if the text contains the pattern.
+     *
+     * @param pattern pattern
+     * @param text    text to be checked
+     * @return matching result
+     */
+    public Result find(Pattern pattern, CharSequence text) {
+        GuardedText guardedText = new GuardedText();
+        return match(pattern.matcher(guardedText), guardedText, text, false);
+    }
+
+    /**
+     * @return count of guarded matches
+     */
+    public long getCheckCount() {
+        return checkCount.get();
+    }
+
+    /**
+     * Gets count of matches, which were aborted because the budget was used up. Matches are never aborted
+     * on Android, there timed out validations are counted by {@link AsyncValidationEngine#getTimedOutCount()}.
+     *
+     * @return count of aborted matches
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public long getMaxCharAccesses() {
+        return maxCharAccesses == Long.MAX_VALUE ? 0 : maxCharAccesses;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutNanos / 1000000L;
+    }
+
+    /**
+     * Runs the match. Matcher must read the guardedText, so matchers and wrappers can be reused.
+     */
+    Result match(Matcher matcher, GuardedText guardedText, CharSequence text, boolean wholeText) {
+        checkCount.incrementAndGet();
+        guardedText.start(text, maxCharAccesses, timeoutNanos == 0 ? 0 : System.nanoTime() + timeoutNanos);
+        try {
+            matcher.reset(guardedText);
+            return (wholeText ? matcher.matches() : matcher.find()) ? Result.MATCHED : Result.NOT_MATCHED;
+        } catch (BudgetExceededException e) {
+            timeoutCount.incrementAndGet();
+            return Result.TIMED_OUT;
+        } finally {
+            guardedText.finish();
+        }
+    }
+
+    /**
+     * Text wrapper, which counts character reads. Reusable, not thread-safe.
+     */
+    static final class GuardedText implements CharSequence {
+        private CharSequence text = "";
+        private long remainingAccesses;
+        private long deadlineNanos;
+        private int untilDeadlineCheck;
+
+        void start(CharSequence text, long maxCharAccesses, long deadlineNanos) {
+            this.text = text;
+            this.remainingAccesses = maxCharAccesses;
+            this.deadlineNanos = deadlineNanos;
+            this.untilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+        }
+
+        void finish() {
+            text = "";
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remainingAccesses < 0) {
+                throw BudgetExceededException.INSTANCE;
+            }
+            if (--untilDeadlineCheck == 0) {
+                untilDeadlineCheck = DEADLINE_CHECK_INTERVAL;
+                if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos > 0) {
+                    throw BudgetExceededException.INSTANCE;
+                }
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+    /**
+     * Thrown from the matcher to abort matching. Shared and without a stack trace, so aborting does not allocate.
+     */
+    private static final class BudgetExceededException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        static final BudgetExceededException INSTANCE = new BudgetExceededException();
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Runs an action, when user stops typing for the delay.
+ * <p>
+ * At most one callback is pending. A keystroke only records its monotonic time, and the pending
+ * callback reschedules itself to the last edit time + delay, until the user stops typing. So fast
+ * typing costs no message queue operations per keystroke. Not thread-safe, use on the main thread.
+ */
+public final class TypingDebouncer {
+    /**
+     * Posts callbacks at the given time, Handler on Android.
+     */
+    public interface Scheduler {
+        void postAtTime(Runnable callback, long uptimeMillis);
+
+        void removeCallbacks(Runnable callback);
+    }
+
+    private final Clock clock;
+    private final Scheduler scheduler;
+    private final Runnable action;
+    private long delayMillis;
+    private long lastEditTime;
+    private boolean pending;
+    private long scheduleCount;
+
+    private final Runnable checker = new Runnable() {
+        @Override
+        public void run() {
+            pending = false;
+            long deadline = lastEditTime + delayMillis;
+            if (clock.uptimeMillis() >= deadline) {
+                action.run();
+            } else {
+                schedule(deadline);
+            }
+        }
+    };
+
+    /**
+     * @param clock       monotonic clock
+     * @param scheduler   callback scheduler
+     * @param delayMillis delay after the last edit in milliseconds
+     * @param action      action, which runs when user stops typing
+     */
+    public TypingDebouncer(Clock clock, Scheduler scheduler, long delayMillis, Runnable action) {
+        this.clock = clock;
+        this.scheduler = scheduler;
+        this.delayMillis = delayMillis;
+        this.action = action;
+    }
+
+    /**
+     * Records an edit. Callback is posted only if none is pending.
+     */
+    public void onTextChanged() {
+        lastEditTime = clock.uptimeMillis();
+        if (!pending) {
+            schedule(lastEditTime + delayMillis);
+        }
+    }
+
+    /**
+     * Removes the pending callback.
+     */
+    public void cancel() {
+        if (pending) {
+            pending = false;
+            scheduler.removeCallbacks(checker);
+        }
+    }
+
+    /**
+     * Sets the delay. Pending callback is rescheduled, so a shorter delay takes effect immediately.
+     *
+     * @param delayMillis delay after the last edit in milliseconds
+     */
+    public void setDelay(long delayMillis) {
+        this.delayMillis = delayMillis;
+        if (pending) {
+            cancel();
+            schedule(lastEditTime + delayMillis);
+        }
+    }
+
+    public long getDelay() {
+        return delayMillis;
+    }
+
+    /**
+     * @return true if a callback is pending
+     */
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * @return count of posted callbacks
+     */
+    public long getScheduleCount() {
+        return scheduleCount;
+    }
+
+    private void schedule(long deadline) {
+        pending = true;
+        scheduleCount++;
+        scheduler.postAtTime(checker, deadline);
+    }
+}
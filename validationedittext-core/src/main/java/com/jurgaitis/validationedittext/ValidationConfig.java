@@ -0,0 +1,158 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, interned validation config, for example parsed from the XML attributes of a field.
+ * <p>
+ * Equal configs are the same object, so every field inflated with the same attributes shares one
+ * config and its {@link ValidationPlan}, which is built with the compiled patterns only once.
+ * Configs are interned for the process lifetime, use them for a bounded set of settings, e.g. layouts.
+ */
+public final class ValidationConfig {
+    /**
+     * Default max length, the same as {@link ValidationPlan.Builder} uses
+     */
+    public static final int DEFAULT_MAX_LENGTH = 32;
+    /**
+     * Default min length, the same as {@link ValidationPlan.Builder} uses
+     */
+    public static final int DEFAULT_MIN_LENGTH = 3;
+
+    private static final ConcurrentHashMap<ValidationConfig, ValidationConfig> INTERNED = new ConcurrentHashMap<>();
+
+    private final int rules;
+    private final int minLength;
+    private final int maxLength;
+    private final String postalCountry;
+    private final String customRegex;
+    private volatile ValidationPlan plan;
+
+    private ValidationConfig(int rules, int minLength, int maxLength, String postalCountry, String customRegex) {
+        this.rules = rules;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.postalCountry = postalCountry;
+        this.customRegex = customRegex;
+    }
+
+    /**
+     * Gets the interned config.
+     *
+     * @param rules         rules bitmask, see {@link ValidationRule#mask(ValidationRule...)}
+     * @param minLength     min length
+     * @param maxLength     max length
+     * @param postalCountry ISO 3166-1 alpha-2 country code of the postal code rule or null
+     * @param customRegex   regex of the only custom regex rule or null
+     * @return interned config
+     * @throws IllegalArgumentException if the country code is not known
+     */
+    public static ValidationConfig of(int rules, int minLength, int maxLength, String postalCountry,
+                                      String customRegex) {
+        if (postalCountry != null && !PostalCodeValidator.isKnownCountry(postalCountry)) {
+            throw new IllegalArgumentException("Unknown country code: " + postalCountry);
+        }
+        if (customRegex != null && customRegex.isEmpty()) {
+            customRegex = null;
+        }
+        ValidationConfig config = new ValidationConfig(rules, minLength, maxLength, postalCountry, customRegex);
+        ValidationConfig existing = INTERNED.putIfAbsent(config, config);
+        return existing != null ? existing : config;
+    }
+
+    /**
+     * Gets the plan of this config. Plan is built once and shared by all users of the config.
+     *
+     * @return validation plan
+     */
+    public ValidationPlan getPlan() {
+        ValidationPlan plan = this.plan;
+        if (plan == null) {
+            // racing threads build equal plans, one of them is kept
+            plan = newPlanBuilder().build();
+            this.plan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Creates a plan builder with the settings of this config, so the plan can be changed further.
+     *
+     * @return new builder
+     */
+    public ValidationPlan.Builder newPlanBuilder() {
+        return applyTo(new ValidationPlan.Builder());
+    }
+
+    /**
+     * Sets the settings of this config to the builder. Other settings of the builder are kept.
+     *
+     * @param builder plan builder
+     * @return the same builder
+     */
+    public ValidationPlan.Builder applyTo(ValidationPlan.Builder builder) {
+        builder.setRules(rules)
+                .setMinLength(minLength)
+                .setMaxLength(maxLength)
+                .setPostalCodePattern(null)
+                .setOnlyCustomPattern(null);
+        if (postalCountry != null) {
+            builder.setPostalCountry(postalCountry);
+        }
+        if (customRegex != null) {
+            builder.setOnlyCustomPattern(RegexCache.get(customRegex));
+        }
+        return builder;
+    }
+
+    public int getRules() {
+        return rules;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public String getPostalCountry() {
+        return postalCountry;
+    }
+
+    public String getCustomRegex() {
+        return customRegex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValidationConfig)) {
+            return false;
+        }
+        ValidationConfig other = (ValidationConfig) o;
+        return rules == other.rules && minLength == other.minLength && maxLength == other.maxLength
+                && (postalCountry == null ? other.postalCountry == null : postalCountry.equals(other.postalCountry))
+                && (customRegex == null ? other.customRegex == null : customRegex.equals(other.customRegex));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = rules;
+        result = 31 * result + minLength;
+        result = 31 * result + maxLength;
+        result = 31 * result + (postalCountry != null ? postalCountry.hashCode() : 0);
+        result = 31 * result + (customRegex != null ? customRegex.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationConfig{rules=" + Integer.toHexString(rules) + ", minLength=" + minLength
+                + ", maxLength=" + maxLength + ", postalCountry=" + postalCountry
+                + ", customRegex=" + customRegex + '}';
+    }
+}
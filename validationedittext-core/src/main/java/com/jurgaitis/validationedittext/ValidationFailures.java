@@ -0,0 +1,103 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable set of all failed rules of a value, see {@link ValidationPlan.Evaluator#evaluateAll(CharSequence)}.
+ * <p>
+ * Failures are held as a rules bitmask, results and messages are resolved only when they are requested.
+ * Evaluator returns the same object, while the bitmask does not change, so failures can be compared
+ * by identity.
+ */
+public final class ValidationFailures {
+    private final ValidationPlan plan;
+    private final int mask;
+    private final ValidationResult first;
+    private volatile List<ValidationResult> results;
+
+    ValidationFailures(ValidationPlan plan, int mask, ValidationResult first) {
+        this.plan = plan;
+        this.mask = mask;
+        this.first = first;
+    }
+
+    /**
+     * @return true if no rule failed
+     */
+    public boolean isValid() {
+        return mask == 0;
+    }
+
+    /**
+     * @return bitmask of the failed rules, see {@link ValidationRule#mask()}
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * @param rule rule
+     * @return true if the rule failed
+     */
+    public boolean contains(ValidationRule rule) {
+        return rule.isIn(mask);
+    }
+
+    /**
+     * @return count of the failed rules
+     */
+    public int size() {
+        return Integer.bitCount(mask);
+    }
+
+    /**
+     * @return result of the first failed check, the same as {@link ValidationPlan.Evaluator#evaluate(CharSequence)}
+     * returns, or {@link ValidationResult#VALID}
+     */
+    public ValidationResult getFirst() {
+        return first;
+    }
+
+    /**
+     * @param rule rule
+     * @return interned failure result of the rule or {@link ValidationResult#VALID}, if the rule did not fail
+     */
+    public ValidationResult getResult(ValidationRule rule) {
+        return contains(rule) ? plan.getResult(rule) : ValidationResult.VALID;
+    }
+
+    /**
+     * @return unmodifiable list of the failure results in the plan checks order
+     */
+    public List<ValidationResult> getResults() {
+        List<ValidationResult> results = this.results;
+        if (results == null) {
+            results = Collections.unmodifiableList(Arrays.asList(plan.getResults(mask)));
+            this.results = results;
+        }
+        return results;
+    }
+
+    /**
+     * @param rule      rule
+     * @param validator validator, which holds the messages
+     * @return error message of the rule or null, if the rule did not fail
+     */
+    public String getMessage(ValidationRule rule, CustomValidator validator) {
+        return getResult(rule).getMessage(validator);
+    }
+
+    /**
+     * @return plan, which was used
+     */
+    public ValidationPlan getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "VALID" : getResults().toString();
+    }
+}
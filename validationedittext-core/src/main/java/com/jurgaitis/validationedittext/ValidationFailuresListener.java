@@ -0,0 +1,12 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Validation listener, which gets all failed rules of the value, for example to update a password
+ * requirements checklist with a single evaluation.
+ */
+public interface ValidationFailuresListener {
+    /**
+     * @param failures all failed rules, empty if field is valid
+     */
+    void onValidationFailures(ValidationFailures failures);
+}
@@ -0,0 +1,357 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Copy-on-write list of validation listeners, each with its own dispatch mode.
+ * <p>
+ * {@link EditTextValidationListener} gets the response message, {@link ValidationResultListener} gets
+ * the typed result and {@link ValidationFailuresListener} gets all failed rules. Message and failures are
+ * needed only by their listeners, see {@link #isMessageNeeded()} and {@link #isFailuresNeeded()}.
+ * <p>
+ * Listeners can be added and removed at any time, also from a listener during dispatch: dispatch
+ * iterates over the array, which was current when it started, and a removed listener is not called
+ * anymore, even if its response is already queued. Every registration reuses one Runnable, so dispatch
+ * does not allocate. Posted listeners get only the newest response, if they fall behind.
+ */
+public final class ValidationListeners {
+    /**
+     * How the listener is called on the main thread. Listeners, which are called on another executor,
+     * are added with it, e.g. {@link #add(EditTextValidationListener, Executor)}.
+     */
+    public enum DispatchMode {
+        /**
+         * Called directly on the main thread, during validation
+         */
+        MAIN_THREAD_INLINE,
+        /**
+         * Posted to the main thread, after validation
+         */
+        MAIN_THREAD_POSTED
+    }
+
+    private static final Registration[] EMPTY = new Registration[0];
+
+    private final Executor mainThreadExecutor;
+    private final Object lock = new Object();
+    private volatile Registration[] registrations = EMPTY;
+    private volatile int messageListenerCount;
+    private volatile int failuresListenerCount;
+
+    /**
+     * @param mainThreadExecutor executor, which posts to the main thread
+     */
+    public ValidationListeners(Executor mainThreadExecutor) {
+        this.mainThreadExecutor = mainThreadExecutor;
+    }
+
+    /**
+     * Adds the listener. Listener, which is already added, is registered again with the new mode.
+     *
+     * @param listener listener
+     * @param mode     MAIN_THREAD_INLINE or MAIN_THREAD_POSTED
+     * @return registration of the listener
+     */
+    public Registration add(EditTextValidationListener listener, DispatchMode mode) {
+        return add(new Registration(listener, null, null, executorOf(mode)));
+    }
+
+    /**
+     * Adds the result listener. Listener, which is already added, is registered again with the new mode.
+     *
+     * @param listener listener
+     * @param mode     MAIN_THREAD_INLINE or MAIN_THREAD_POSTED
+     * @return registration of the listener
+     */
+    public Registration addResultListener(ValidationResultListener listener, DispatchMode mode) {
+        return add(new Registration(null, listener, null, executorOf(mode)));
+    }
+
+    /**
+     * Adds the listener, which is called on the executor.
+     *
+     * @param listener listener
+     * @param executor executor, which calls the listener
+     * @return registration of the listener
+     */
+    public Registration add(EditTextValidationListener listener, Executor executor) {
+        return add(new Registration(listener, null, null, executor));
+    }
+
+    /**
+     * Adds the result listener, which is called on the executor.
+     *
+     * @param listener listener
+     * @param executor executor, which calls the listener
+     * @return registration of the listener
+     */
+    public Registration addResultListener(ValidationResultListener listener, Executor executor) {
+        return add(new Registration(null, listener, null, executor));
+    }
+
+    /**
+     * Adds the failures listener. Listener, which is already added, is registered again with the new mode.
+     *
+     * @param listener listener
+     * @param mode     MAIN_THREAD_INLINE or MAIN_THREAD_POSTED
+     * @return registration of the listener
+     */
+    public Registration addFailuresListener(ValidationFailuresListener listener, DispatchMode mode) {
+        return add(new Registration(null, null, listener, executorOf(mode)));
+    }
+
+    /**
+     * Adds the failures listener, which is called on the executor.
+     *
+     * @param listener listener
+     * @param executor executor, which calls the listener
+     * @return registration of the listener
+     */
+    public Registration addFailuresListener(ValidationFailuresListener listener, Executor executor) {
+        return add(new Registration(null, null, listener, executor));
+    }
+
+    /**
+     * Removes the listener. Queued responses are not delivered to it anymore.
+     *
+     * @param listener listener
+     * @return true if the listener was added, otherwise false
+     */
+    public boolean remove(EditTextValidationListener listener) {
+        return removeRegistration(listener, null, null);
+    }
+
+    /**
+     * Removes the result listener. Queued results are not delivered to it anymore.
+     *
+     * @param listener listener
+     * @return true if the listener was added, otherwise false
+     */
+    public boolean removeResultListener(ValidationResultListener listener) {
+        return removeRegistration(null, listener, null);
+    }
+
+    /**
+     * Removes the failures listener. Queued failures are not delivered to it anymore.
+     *
+     * @param listener listener
+     * @return true if the listener was added, otherwise false
+     */
+    public boolean removeFailuresListener(ValidationFailuresListener listener) {
+        return removeRegistration(null, null, listener);
+    }
+
+    private boolean removeRegistration(EditTextValidationListener listener, ValidationResultListener resultListener,
+                                       ValidationFailuresListener failuresListener) {
+        synchronized (lock) {
+            Registration[] current = registrations;
+            int index = indexOf(current, listener, resultListener, failuresListener);
+            if (index < 0) {
+                return false;
+            }
+            current[index].removed = true;
+            Registration[] updated = new Registration[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, updated.length - index);
+            setRegistrations(updated);
+            return true;
+        }
+    }
+
+    /**
+     * @return count of listeners
+     */
+    public int size() {
+        return registrations.length;
+    }
+
+    /**
+     * @return true if any listener needs the response message, see {@link #dispatch(ValidationResult, String)}
+     */
+    public boolean isMessageNeeded() {
+        return messageListenerCount != 0;
+    }
+
+    /**
+     * @return true if any listener needs all failed rules, see {@link #dispatch(ValidationResult, String, ValidationFailures)}
+     */
+    public boolean isFailuresNeeded() {
+        return failuresListenerCount != 0;
+    }
+
+    /**
+     * Sends the response to all listeners, except failures listeners.
+     *
+     * @param result  validation result
+     * @param message response message, can be null if {@link #isMessageNeeded()} is false
+     */
+    public void dispatch(ValidationResult result, String message) {
+        dispatch(result, message, null);
+    }
+
+    /**
+     * Sends the response to a single listener, e.g. the current response to a listener, which was just added.
+     * Failures listener is skipped, when failures are null.
+     *
+     * @param registration registration of the listener
+     * @param result       validation result
+     * @param message      response message, can be null if the listener is not a message listener
+     * @param failures     all failed rules, can be null if the listener is not a failures listener
+     */
+    public void dispatch(Registration registration, ValidationResult result, String message,
+                         ValidationFailures failures) {
+        registration.deliver(result, message, failures);
+    }
+
+    /**
+     * Sends the response to all listeners. Failures listeners are skipped, when failures are null.
+     *
+     * @param result   validation result
+     * @param message  response message, can be null if {@link #isMessageNeeded()} is false
+     * @param failures all failed rules, can be null if {@link #isFailuresNeeded()} is false
+     */
+    public void dispatch(ValidationResult result, String message, ValidationFailures failures) {
+        for (Registration registration : registrations) {
+            registration.deliver(result, message, failures);
+        }
+    }
+
+    private Executor executorOf(DispatchMode mode) {
+        return mode == DispatchMode.MAIN_THREAD_POSTED ? mainThreadExecutor : null;
+    }
+
+    private Registration add(Registration registration) {
+        synchronized (lock) {
+            Registration[] current = registrations;
+            int index = indexOf(current, registration.listener, registration.resultListener,
+                    registration.failuresListener);
+            Registration[] updated;
+            if (index >= 0) {
+                current[index].removed = true;
+                updated = current.clone();
+                updated[index] = registration;
+            } else {
+                updated = new Registration[current.length + 1];
+                System.arraycopy(current, 0, updated, 0, current.length);
+                updated[current.length] = registration;
+            }
+            setRegistrations(updated);
+        }
+        return registration;
+    }
+
+    // guarded by lock
+    private void setRegistrations(Registration[] updated) {
+        int messageCount = 0;
+        int failuresCount = 0;
+        for (Registration registration : updated) {
+            if (registration.listener != null) {
+                messageCount++;
+            } else if (registration.failuresListener != null) {
+                failuresCount++;
+            }
+        }
+        messageListenerCount = messageCount;
+        failuresListenerCount = failuresCount;
+        registrations = updated;
+    }
+
+    /**
+     * Finds the registration of the listener. An object, which implements several listener interfaces,
+     * has a separate registration for every interface, it was added as.
+     */
+    private static int indexOf(Registration[] registrations, EditTextValidationListener listener,
+                               ValidationResultListener resultListener, ValidationFailuresListener failuresListener) {
+        for (int i = 0; i < registrations.length; i++) {
+            Registration registration = registrations[i];
+            if (registration.listener == listener && registration.resultListener == resultListener
+                    && registration.failuresListener == failuresListener) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Added listener with its executor. Registration owns the Runnable, which is posted, so posting a
+     * response does not allocate. Only the newest response is kept, while the Runnable is queued.
+     */
+    public static final class Registration {
+        // exactly one of the listeners is set
+        final EditTextValidationListener listener;
+        final ValidationResultListener resultListener;
+        final ValidationFailuresListener failuresListener;
+        // null - called inline
+        final Executor executor;
+        volatile boolean removed;
+        private final Runnable post = new Runnable() {
+            @Override
+            public void run() {
+                runPosted();
+            }
+        };
+        // guarded by this
+        private boolean queued;
+        private ValidationResult result;
+        private String message;
+        private ValidationFailures failures;
+
+        Registration(EditTextValidationListener listener, ValidationResultListener resultListener,
+                     ValidationFailuresListener failuresListener, Executor executor) {
+            this.listener = listener;
+            this.resultListener = resultListener;
+            this.failuresListener = failuresListener;
+            this.executor = executor;
+        }
+
+        void deliver(ValidationResult result, String message, ValidationFailures failures) {
+            if (failuresListener != null && failures == null) {
+                return;
+            }
+            if (executor == null) {
+                if (!removed) {
+                    call(result, message, failures);
+                }
+                return;
+            }
+            synchronized (this) {
+                this.result = result;
+                this.message = message;
+                this.failures = failures;
+                if (queued) {
+                    return;
+                }
+                queued = true;
+            }
+            executor.execute(post);
+        }
+
+        private void runPosted() {
+            ValidationResult result;
+            String message;
+            ValidationFailures failures;
+            synchronized (this) {
+                queued = false;
+                result = this.result;
+                message = this.message;
+                failures = this.failures;
+                this.result = null;
+                this.message = null;
+                this.failures = null;
+            }
+            if (!removed) {
+                call(result, message, failures);
+            }
+        }
+
+        private void call(ValidationResult result, String message, ValidationFailures failures) {
+            if (listener != null) {
+                listener.onValidationResponse(result.isValid(), message);
+            } else if (resultListener != null) {
+                resultListener.onValidationResult(result);
+            } else {
+                failuresListener.onValidationFailures(failures);
+            }
+        }
+    }
+}
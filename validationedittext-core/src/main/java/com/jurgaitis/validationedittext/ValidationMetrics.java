@@ -0,0 +1,223 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Optional validation instrumentation: invocation and failure counts and latency histograms of every
+ * rule, of the whole validation pass and of the listener dispatch.
+ * <p>
+ * Metrics are recorded only by plans, which are built with {@link ValidationPlan.Builder#setMetrics(ValidationMetrics)},
+ * otherwise validation pays only a null check. Counters are lock-free, so one instance can be shared
+ * by many fields and threads. Latency is measured with {@link System#nanoTime()} and counted in fixed
+ * buckets, see {@link #getBucketUpperBoundNanos(int)}.
+ */
+public final class ValidationMetrics {
+    /**
+     * Count of latency buckets
+     */
+    public static final int BUCKET_COUNT = 10;
+
+    private static final ValidationRule[] RULES = ValidationRule.values();
+    private static final int PASS_ROW = RULES.length;
+    private static final int DISPATCH_ROW = RULES.length + 1;
+    private static final int ROW_COUNT = RULES.length + 2;
+
+    private final AtomicLongArray invocations = new AtomicLongArray(ROW_COUNT);
+    private final AtomicLongArray failures = new AtomicLongArray(ROW_COUNT);
+    private final AtomicLongArray totalNanos = new AtomicLongArray(ROW_COUNT);
+    private final AtomicLongArray histograms = new AtomicLongArray(ROW_COUNT * BUCKET_COUNT);
+
+    /**
+     * Gets the exclusive upper bound of the bucket. Bucket 0 counts latencies below 256 ns, every next
+     * bucket is 4 times wider and the last one counts everything from 16.7 ms.
+     *
+     * @param bucket bucket index
+     * @return upper bound in nanoseconds, Long.MAX_VALUE for the last bucket
+     */
+    public static long getBucketUpperBoundNanos(int bucket) {
+        return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << (8 + 2 * bucket);
+    }
+
+    static int bucketOf(long nanos) {
+        int bits = 64 - Long.numberOfLeadingZeros(Math.max(nanos, 0));
+        return bits <= 8 ? 0 : Math.min((bits - 7) / 2, BUCKET_COUNT - 1);
+    }
+
+    void recordCheck(ValidationRule rule, long nanos, boolean passed) {
+        record(rule.ordinal(), nanos, !passed);
+    }
+
+    void recordPass(long nanos, boolean valid) {
+        record(PASS_ROW, nanos, !valid);
+    }
+
+    void recordDispatch(long nanos) {
+        record(DISPATCH_ROW, nanos, false);
+    }
+
+    private void record(int row, long nanos, boolean failed) {
+        invocations.incrementAndGet(row);
+        if (failed) {
+            failures.incrementAndGet(row);
+        }
+        totalNanos.addAndGet(row, nanos);
+        histograms.incrementAndGet(row * BUCKET_COUNT + bucketOf(nanos));
+    }
+
+    /**
+     * Copies the current counters. Counters of a validation, which runs at the same time, can be
+     * copied partly.
+     *
+     * @return snapshot of the counters
+     */
+    public Snapshot snapshot() {
+        long[] invocations = new long[ROW_COUNT];
+        long[] failures = new long[ROW_COUNT];
+        long[] totalNanos = new long[ROW_COUNT];
+        long[] histograms = new long[ROW_COUNT * BUCKET_COUNT];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            invocations[i] = this.invocations.get(i);
+            failures[i] = this.failures.get(i);
+            totalNanos[i] = this.totalNanos.get(i);
+        }
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = this.histograms.get(i);
+        }
+        return new Snapshot(invocations, failures, totalNanos, histograms);
+    }
+
+    /**
+     * Sets all counters to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            invocations.set(i, 0);
+            failures.set(i, 0);
+            totalNanos.set(i, 0);
+        }
+        for (int i = 0; i < histograms.length(); i++) {
+            histograms.set(i, 0);
+        }
+    }
+
+    /**
+     * Immutable copy of the counters.
+     */
+    public static final class Snapshot {
+        private final long[] invocations;
+        private final long[] failures;
+        private final long[] totalNanos;
+        private final long[] histograms;
+
+        private Snapshot(long[] invocations, long[] failures, long[] totalNanos, long[] histograms) {
+            this.invocations = invocations;
+            this.failures = failures;
+            this.totalNanos = totalNanos;
+            this.histograms = histograms;
+        }
+
+        /**
+         * @param rule rule
+         * @return count of the rule checks
+         */
+        public long getInvocationCount(ValidationRule rule) {
+            return invocations[rule.ordinal()];
+        }
+
+        /**
+         * @param rule rule
+         * @return count of the failed rule checks
+         */
+        public long getFailureCount(ValidationRule rule) {
+            return failures[rule.ordinal()];
+        }
+
+        /**
+         * @param rule rule
+         * @return total time of the rule checks in nanoseconds
+         */
+        public long getTotalNanos(ValidationRule rule) {
+            return totalNanos[rule.ordinal()];
+        }
+
+        /**
+         * @param rule rule
+         * @return latency histogram of the rule checks, see {@link #getBucketUpperBoundNanos(int)}
+         */
+        public long[] getHistogram(ValidationRule rule) {
+            return histogram(rule.ordinal());
+        }
+
+        /**
+         * @return count of the validation passes
+         */
+        public long getPassCount() {
+            return invocations[PASS_ROW];
+        }
+
+        /**
+         * @return count of the validation passes, which found the value invalid
+         */
+        public long getInvalidPassCount() {
+            return failures[PASS_ROW];
+        }
+
+        /**
+         * @return total time of the validation passes in nanoseconds
+         */
+        public long getPassTotalNanos() {
+            return totalNanos[PASS_ROW];
+        }
+
+        /**
+         * @return latency histogram of the validation passes
+         */
+        public long[] getPassHistogram() {
+            return histogram(PASS_ROW);
+        }
+
+        /**
+         * @return count of the listener dispatches
+         */
+        public long getDispatchCount() {
+            return invocations[DISPATCH_ROW];
+        }
+
+        /**
+         * @return total time of the listener dispatches in nanoseconds
+         */
+        public long getDispatchTotalNanos() {
+            return totalNanos[DISPATCH_ROW];
+        }
+
+        /**
+         * @return latency histogram of the listener dispatches
+         */
+        public long[] getDispatchHistogram() {
+            return histogram(DISPATCH_ROW);
+        }
+
+        private long[] histogram(int row) {
+            long[] histogram = new long[BUCKET_COUNT];
+            System.arraycopy(histograms, row * BUCKET_COUNT, histogram, 0, BUCKET_COUNT);
+            return histogram;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("ValidationMetrics{passes=").append(getPassCount())
+                    .append(", passNanos=").append(getPassTotalNanos())
+                    .append(", dispatches=").append(getDispatchCount())
+                    .append(", dispatchNanos=").append(getDispatchTotalNanos());
+            for (ValidationRule rule : RULES) {
+                long count = getInvocationCount(rule);
+                if (count != 0) {
+                    builder.append(", ").append(rule).append("={checks=").append(count)
+                            .append(", failures=").append(getFailureCount(rule))
+                            .append(", nanos=").append(getTotalNanos(rule)).append('}');
+                }
+            }
+            return builder.append('}').toString();
+        }
+    }
+}
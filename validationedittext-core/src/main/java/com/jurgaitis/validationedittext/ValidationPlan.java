@@ -0,0 +1,726 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable validation plan. It holds only the checks of the active rules, already bound to their
+ * compiled patterns and length limits, so validation just iterates over an array.
+ * Plans are built once, when validation settings change, by {@link Builder}.
+ * <p>
+ * A plan can be shared between threads. Reusable matchers live in {@link Evaluator}, which must be
+ * used by one thread at a time.
+ */
+public final class ValidationPlan {
+    /**
+     * Check cost: O(1), length and empty checks
+     */
+    static final int COST_LENGTH = 0;
+    /**
+     * Check cost: answered from the CharacterClasses summary
+     */
+    static final int COST_CHARACTER_CLASS = 1;
+    /**
+     * Check cost: single allocation-free pass over the text
+     */
+    static final int COST_SCAN = 2;
+    /**
+     * Check cost: regex matching
+     */
+    static final int COST_REGEX = 3;
+
+    private final Check[] checks;
+    private final int rules;
+    private final boolean characterClassesNeeded;
+    private final ValidationMetrics metrics;
+    // guard of the regex checks, null if no check is guarded
+    private final RegexGuard regexGuard;
+    private final ValidationRule guardedRule;
+
+    private ValidationPlan(Check[] checks, ValidationMetrics metrics) {
+        this.checks = checks;
+        this.metrics = metrics;
+        int rules = 0;
+        boolean characterClassesNeeded = false;
+        PatternCheck guardedCheck = null;
+        for (int i = 0; i < checks.length; i++) {
+            Check check = checks[i];
+            check.index = i;
+            rules |= check.rule.mask();
+            characterClassesNeeded |= check.cost == COST_CHARACTER_CLASS;
+            if (guardedCheck == null && check instanceof PatternCheck && ((PatternCheck) check).guard != null) {
+                guardedCheck = (PatternCheck) check;
+            }
+        }
+        this.rules = rules;
+        this.characterClassesNeeded = characterClassesNeeded;
+        this.regexGuard = guardedCheck != null ? guardedCheck.guard : null;
+        this.guardedRule = guardedCheck != null ? guardedCheck.rule : null;
+    }
+
+    /**
+     * Validates the text. Creates a new {@link Evaluator}, use {@link Evaluator#validate(CharSequence)}
+     * to validate many values without allocations.
+     *
+     * @param text text to be checked
+     * @return first failed rule or null, if the text is valid
+     */
+    public ValidationRule validate(CharSequence text) {
+        return newEvaluator().validate(text);
+    }
+
+    /**
+     * Creates evaluator of this plan.
+     *
+     * @return new evaluator
+     */
+    public Evaluator newEvaluator() {
+        return new Evaluator(this);
+    }
+
+    /**
+     * @return true if checks need the CharacterClasses summary of the text
+     */
+    boolean isCharacterClassesNeeded() {
+        return characterClassesNeeded;
+    }
+
+    /**
+     * @return guard of the regex checks or null, if no check is guarded
+     */
+    RegexGuard getRegexGuard() {
+        return regexGuard;
+    }
+
+    /**
+     * @return rule of the first guarded regex check or null
+     */
+    ValidationRule getGuardedRule() {
+        return guardedRule;
+    }
+
+    /**
+     * Gets the interned failure result of the rule.
+     *
+     * @param rule failed rule or null
+     * @return failure result of the rule's check or {@link ValidationResult#VALID}, if rule is null
+     */
+    public ValidationResult getResult(ValidationRule rule) {
+        if (rule == null) {
+            return ValidationResult.VALID;
+        }
+        for (Check check : checks) {
+            if (check.rule == rule) {
+                return check.failure;
+            }
+        }
+        return new ValidationResult(rule, 0);
+    }
+
+    /**
+     * @param mask bitmask of the failed rules
+     * @return failure results of the rules in the checks order
+     */
+    ValidationResult[] getResults(int mask) {
+        ValidationResult[] results = new ValidationResult[Integer.bitCount(mask & rules)];
+        int count = 0;
+        for (Check check : checks) {
+            if (check.rule.isIn(mask)) {
+                results[count++] = check.failure;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return bitmask of the rules in this plan
+     */
+    public int getRules() {
+        return rules;
+    }
+
+    /**
+     * @return metrics, which record validations of this plan, or null
+     */
+    public ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return count of checks in this plan
+     */
+    public int size() {
+        return checks.length;
+    }
+
+    /**
+     * Single rule check.
+     */
+    abstract static class Check {
+        final ValidationRule rule;
+        final int cost;
+        // interned result, returned when the check fails
+        final ValidationResult failure;
+        int index;
+
+        Check(ValidationRule rule, int cost) {
+            this(rule, cost, 0);
+        }
+
+        Check(ValidationRule rule, int cost, int limit) {
+            this.rule = rule;
+            this.cost = cost;
+            this.failure = new ValidationResult(rule, limit);
+        }
+
+        abstract boolean passes(CharSequence text, int summary, Evaluator evaluator);
+    }
+
+    /**
+     * Validates values with the plan and reuses matchers between the calls, so validation of a value
+     * does not allocate. Evaluator is not thread-safe.
+     */
+    public static final class Evaluator {
+        private final ValidationPlan plan;
+        private final ValidationMetrics metrics;
+        private final Matcher[] matchers;
+        private RegexGuard.GuardedText guardedText;
+        private boolean timedOut;
+        // rule of the guarded check, which runs or ran last, read by the async timeout
+        private volatile ValidationRule guardedRule;
+        // set by failureMask
+        private ValidationResult firstFailure;
+        private ValidationFailures lastFailures;
+
+        private Evaluator(ValidationPlan plan) {
+            this.plan = plan;
+            this.metrics = plan.metrics;
+            this.matchers = new Matcher[plan.checks.length];
+        }
+
+        /**
+         * Validates the text.
+         *
+         * @param text text to be checked
+         * @return first failed rule or null, if the text is valid
+         */
+        public ValidationRule validate(CharSequence text) {
+            return validate(text, plan.characterClassesNeeded ? CharacterClasses.scan(text) : 0);
+        }
+
+        /**
+         * Validates the text.
+         *
+         * @param text    text to be checked
+         * @param summary CharacterClasses summary of the text, used only if the plan needs it
+         * @return first failed rule or null, if the text is valid
+         */
+        ValidationRule validate(CharSequence text, int summary) {
+            return evaluate(text, summary).getRule();
+        }
+
+        /**
+         * Validates the text. Returned results are interned, so validation does not allocate.
+         *
+         * @param text text to be checked
+         * @return result of the first failed check or {@link ValidationResult#VALID}
+         */
+        public ValidationResult evaluate(CharSequence text) {
+            return evaluate(text, plan.characterClassesNeeded ? CharacterClasses.scan(text) : 0);
+        }
+
+        /**
+         * Validates the text.
+         *
+         * @param text    text to be checked
+         * @param summary CharacterClasses summary of the text, used only if the plan needs it
+         * @return result of the first failed check or {@link ValidationResult#VALID}
+         */
+        ValidationResult evaluate(CharSequence text, int summary) {
+            if (metrics != null) {
+                return evaluateMeasured(text, summary);
+            }
+            timedOut = false;
+            Check[] checks = plan.checks;
+            for (int i = 0; i < checks.length; i++) {
+                if (!checks[i].passes(text, summary, this)) {
+                    return checks[i].failure;
+                }
+            }
+            return ValidationResult.VALID;
+        }
+
+        /**
+         * Checks every rule of the plan, also after a failure. Character classes are scanned once for all
+         * rules.
+         *
+         * @param text text to be checked
+         * @return bitmask of the failed rules, 0 if the text is valid
+         */
+        public int validateAll(CharSequence text) {
+            return failureMask(text, plan.characterClassesNeeded ? CharacterClasses.scan(text) : 0);
+        }
+
+        /**
+         * Checks every rule of the plan, also after a failure. The previous failures are returned again,
+         * if the same rules failed, so a steady-state keystroke does not allocate.
+         *
+         * @param text text to be checked
+         * @return all failed rules
+         */
+        public ValidationFailures evaluateAll(CharSequence text) {
+            return evaluateAll(text, plan.characterClassesNeeded ? CharacterClasses.scan(text) : 0);
+        }
+
+        /**
+         * Checks every rule of the plan.
+         *
+         * @param text    text to be checked
+         * @param summary CharacterClasses summary of the text, used only if the plan needs it
+         * @return all failed rules
+         */
+        ValidationFailures evaluateAll(CharSequence text, int summary) {
+            int mask = failureMask(text, summary);
+            ValidationFailures failures = lastFailures;
+            if (failures == null || failures.getMask() != mask) {
+                failures = new ValidationFailures(plan, mask, firstFailure);
+                lastFailures = failures;
+            }
+            return failures;
+        }
+
+        private ValidationResult evaluateMeasured(CharSequence text, int summary) {
+            timedOut = false;
+            long passStart = System.nanoTime();
+            ValidationResult result = ValidationResult.VALID;
+            Check[] checks = plan.checks;
+            for (int i = 0; i < checks.length; i++) {
+                if (!measure(checks[i], text, summary)) {
+                    result = checks[i].failure;
+                    break;
+                }
+            }
+            metrics.recordPass(System.nanoTime() - passStart, result.isValid());
+            return result;
+        }
+
+        private boolean measure(Check check, CharSequence text, int summary) {
+            long start = System.nanoTime();
+            boolean passed = check.passes(text, summary, this);
+            metrics.recordCheck(check.rule, System.nanoTime() - start, passed);
+            return passed;
+        }
+
+        private int failureMask(CharSequence text, int summary) {
+            if (metrics != null) {
+                return failureMaskMeasured(text, summary);
+            }
+            timedOut = false;
+            ValidationResult first = ValidationResult.VALID;
+            int mask = 0;
+            Check[] checks = plan.checks;
+            for (int i = 0; i < checks.length; i++) {
+                Check check = checks[i];
+                if (!check.passes(text, summary, this)) {
+                    if (mask == 0) {
+                        first = check.failure;
+                    }
+                    mask |= check.rule.mask();
+                }
+            }
+            firstFailure = first;
+            return mask;
+        }
+
+        private int failureMaskMeasured(CharSequence text, int summary) {
+            timedOut = false;
+            long passStart = System.nanoTime();
+            ValidationResult first = ValidationResult.VALID;
+            int mask = 0;
+            Check[] checks = plan.checks;
+            for (int i = 0; i < checks.length; i++) {
+                Check check = checks[i];
+                if (!measure(check, text, summary)) {
+                    if (mask == 0) {
+                        first = check.failure;
+                    }
+                    mask |= check.rule.mask();
+                }
+            }
+            firstFailure = first;
+            metrics.recordPass(System.nanoTime() - passStart, mask == 0);
+            return mask;
+        }
+
+        public ValidationPlan getPlan() {
+            return plan;
+        }
+
+        /**
+         * Checks if the last validation failed, because a guarded regex check used up its budget,
+         * see {@link Builder#setRegexGuard(RegexGuard)}. Rule of the aborted check is reported as failed.
+         *
+         * @return true if the last validation timed out, otherwise false
+         */
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * @return rule of the guarded regex check, which runs now or ran last, or null
+         */
+        ValidationRule getGuardedRule() {
+            return guardedRule;
+        }
+
+        RegexGuard.GuardedText guardedText() {
+            if (guardedText == null) {
+                guardedText = new RegexGuard.GuardedText();
+            }
+            return guardedText;
+        }
+
+        Matcher matcher(int index, Pattern pattern, CharSequence text) {
+            Matcher matcher = matchers[index];
+            if (matcher == null) {
+                matcher = pattern.matcher(text);
+                matchers[index] = matcher;
+                return matcher;
+            }
+            return matcher.reset(text);
+        }
+    }
+
+    /**
+     * Builds validation plans.
+     */
+    public static final class Builder {
+        private int rules;
+        private int maxLength = ValidationConfig.DEFAULT_MAX_LENGTH;
+        private int minLength = ValidationConfig.DEFAULT_MIN_LENGTH;
+        private Pattern postalCodePattern;
+        private Pattern onlyCustomPattern;
+        private Pattern atLeastOnePattern;
+        private EmailValidator.Strictness emailStrictness = EmailValidator.Strictness.COMPATIBLE;
+        private RegexGuard regexGuard;
+        private ValidationMetrics metrics;
+        private boolean costOrdered;
+
+        /**
+         * Sets active rules.
+         *
+         * @param rules rules bitmask, see {@link ValidationRule#mask(ValidationRule...)}
+         * @return current Builder
+         */
+        public Builder setRules(int rules) {
+            this.rules = rules;
+            return this;
+        }
+
+        public Builder setMaxLength(int maxLength) {
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        public Builder setMinLength(int minLength) {
+            this.minLength = minLength;
+            return this;
+        }
+
+        public int getMaxLength() {
+            return maxLength;
+        }
+
+        public int getMinLength() {
+            return minLength;
+        }
+
+        /**
+         * Sets how strictly email addresses are checked. Default is {@link EmailValidator.Strictness#COMPATIBLE}.
+         *
+         * @param emailStrictness email strictness
+         * @return current Builder
+         */
+        public Builder setEmailStrictness(EmailValidator.Strictness emailStrictness) {
+            this.emailStrictness = emailStrictness;
+            return this;
+        }
+
+        /**
+         * Sets postal code pattern. Postal code rule is skipped, when pattern is null.
+         *
+         * @param postalCodePattern postal code pattern
+         * @return current Builder
+         */
+        public Builder setPostalCodePattern(Pattern postalCodePattern) {
+            this.postalCodePattern = postalCodePattern;
+            return this;
+        }
+
+        /**
+         * Sets postal code pattern of the country, see {@link PostalCodeValidator}.
+         * Postal code rule is skipped, when the country does not use postal codes.
+         *
+         * @param countryCode ISO 3166-1 alpha-2 country code
+         * @return current Builder
+         * @throws IllegalArgumentException if the country code is not known
+         */
+        public Builder setPostalCountry(String countryCode) {
+            this.postalCodePattern = PostalCodeValidator.getPattern(countryCode);
+            return this;
+        }
+
+        /**
+         * Sets custom pattern. Only custom regex rule is skipped, when pattern is null.
+         *
+         * @param onlyCustomPattern custom pattern
+         * @return current Builder
+         */
+        public Builder setOnlyCustomPattern(Pattern onlyCustomPattern) {
+            this.onlyCustomPattern = onlyCustomPattern;
+            return this;
+        }
+
+        /**
+         * Sets custom pattern. At least one custom regex rule is skipped, when pattern is null.
+         *
+         * @param atLeastOnePattern custom pattern
+         * @return current Builder
+         */
+        public Builder setAtLeastOnePattern(Pattern atLeastOnePattern) {
+            this.atLeastOnePattern = atLeastOnePattern;
+            return this;
+        }
+
+        /**
+         * Sets guard of the postal code and custom regex checks, so an untrusted pattern cannot hang
+         * validation. Regex checks are not guarded, when guard is null (default).
+         *
+         * @param regexGuard regex guard
+         * @return current Builder
+         */
+        public Builder setRegexGuard(RegexGuard regexGuard) {
+            this.regexGuard = regexGuard;
+            return this;
+        }
+
+        /**
+         * Sets metrics, which record every check and validation pass of the plan. Validation is not
+         * measured, when metrics are null (default).
+         *
+         * @param metrics metrics
+         * @return current Builder
+         */
+        public Builder setMetrics(ValidationMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets checks order. By default checks run in ValidationRule order, so the reported error is
+         * the same as before. Cost ordered plan runs length and empty checks first, then character class
+         * checks and regex checks last.
+         *
+         * @param costOrdered true - order checks by cost
+         * @return current Builder
+         */
+        public Builder setCostOrdered(boolean costOrdered) {
+            this.costOrdered = costOrdered;
+            return this;
+        }
+
+        public ValidationPlan build() {
+            List<Check> checks = new ArrayList<>();
+            for (ValidationRule rule : ValidationRule.values()) {
+                if (rule.isIn(rules)) {
+                    Check check = createCheck(rule);
+                    if (check != null) {
+                        checks.add(check);
+                    }
+                }
+            }
+            if (costOrdered) {
+                // stable sort, rule order is kept for the checks with the same cost
+                Collections.sort(checks, new Comparator<Check>() {
+                    @Override
+                    public int compare(Check first, Check second) {
+                        return first.cost < second.cost ? -1 : (first.cost == second.cost ? 0 : 1);
+                    }
+                });
+            }
+            return new ValidationPlan(checks.toArray(new Check[checks.size()]), metrics);
+        }
+
+        private Check createCheck(ValidationRule rule) {
+            switch (rule) {
+                case NOT_EMPTY:
+                    return new Check(rule, COST_LENGTH) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return text.length() > 0;
+                        }
+                    };
+                case EMAIL:
+                    final EmailValidator.Strictness strictness = emailStrictness;
+                    return new Check(rule, COST_SCAN) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return EmailValidator.isValid(text, strictness);
+                        }
+                    };
+                case ONLY_LETTERS:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.isOnlyLetters(summary);
+                        }
+                    };
+                case ONLY_LETTERS_WITH_SPACES:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.isOnlyLettersWithSpaces(summary);
+                        }
+                    };
+                case ONLY_LATIN_LETTERS:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.isOnlyLatinLetters(summary);
+                        }
+                    };
+                case ONLY_LATIN_LETTERS_WITH_SPACES:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.isOnlyLatinLettersWithSpaces(summary);
+                        }
+                    };
+                case ALPHANUMERIC:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.isAlphanumeric(summary);
+                        }
+                    };
+                case ONLY_DIGITS:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.isOnlyDigits(summary);
+                        }
+                    };
+                case MAX_LENGTH:
+                    final int maxLength = this.maxLength;
+                    return new Check(rule, COST_LENGTH, maxLength) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return text.length() <= maxLength;
+                        }
+                    };
+                case MIN_LENGTH:
+                    final int minLength = this.minLength;
+                    return new Check(rule, COST_LENGTH, minLength) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return text.length() >= minLength;
+                        }
+                    };
+                case ALL_LOWERCASE:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.isLowercase(summary, text);
+                        }
+                    };
+                case ALL_UPPERCASE:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.isUppercase(summary, text);
+                        }
+                    };
+                case AT_LEAST_ONE_LOWERCASE:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.hasAtLeastOneLowercase(summary);
+                        }
+                    };
+                case AT_LEAST_ONE_UPPERCASE:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.hasAtLeastOneUppercase(summary);
+                        }
+                    };
+                case AT_LEAST_ONE_DIGIT:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.hasAtLeastOneDigit(summary);
+                        }
+                    };
+                case AT_LEAST_ONE_SPECIAL_CHARACTER:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.hasAtLeastOneSpecialCharacter(summary);
+                        }
+                    };
+                case AT_LEAST_ONE_LETTER:
+                    return new Check(rule, COST_CHARACTER_CLASS) {
+                        @Override
+                        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+                            return CharacterClasses.hasAtLeastOneLetter(summary);
+                        }
+                    };
+                case VALID_POSTAL_CODE:
+                    return postalCodePattern != null
+                            ? new PatternCheck(rule, postalCodePattern, true, regexGuard) : null;
+                case ONLY_CUSTOM_REGEX:
+                    return onlyCustomPattern != null
+                            ? new PatternCheck(rule, onlyCustomPattern, true, regexGuard) : null;
+                case AT_LEAST_ONE_CUSTOM_REGEX:
+                    return atLeastOnePattern != null
+                            ? new PatternCheck(rule, atLeastOnePattern, false, regexGuard) : null;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private static final class PatternCheck extends Check {
+        private final Pattern pattern;
+        private final boolean wholeText;
+        private final RegexGuard guard;
+
+        PatternCheck(ValidationRule rule, Pattern pattern, boolean wholeText, RegexGuard guard) {
+            super(rule, COST_REGEX);
+            this.pattern = pattern;
+            this.wholeText = wholeText;
+            this.guard = guard;
+        }
+
+        @Override
+        boolean passes(CharSequence text, int summary, Evaluator evaluator) {
+            if (guard == null) {
+                Matcher matcher = evaluator.matcher(index, pattern, text);
+                return wholeText ? matcher.matches() : matcher.find();
+            }
+            evaluator.guardedRule = rule;
+            RegexGuard.GuardedText guardedText = evaluator.guardedText();
+            Matcher matcher = evaluator.matcher(index, pattern, guardedText);
+            RegexGuard.Result result = guard.match(matcher, guardedText, text, wholeText);
+            if (result == RegexGuard.Result.TIMED_OUT) {
+                evaluator.timedOut = true;
+                return false;
+            }
+            return result == RegexGuard.Result.MATCHED;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Immutable validation result: failed rule with its parameter, or {@link #VALID}.
+ * <p>
+ * Results are interned: every check of a ValidationPlan owns a single failure result, so validation
+ * returns existing objects and results can be compared by identity. Message is built only when it is
+ * requested and cached by the CustomValidator, which built it, until its settings change.
+ */
+public final class ValidationResult {
+    /**
+     * Result of a valid value
+     */
+    public static final ValidationResult VALID = new ValidationResult(null, 0);
+
+    private final ValidationRule rule;
+    private final int limit;
+
+    ValidationResult(ValidationRule rule, int limit) {
+        this.rule = rule;
+        this.limit = limit;
+    }
+
+    public boolean isValid() {
+        return rule == null;
+    }
+
+    /**
+     * @return failed rule or null, if the result is valid
+     */
+    public ValidationRule getRule() {
+        return rule;
+    }
+
+    /**
+     * @return length limit of MAX_LENGTH and MIN_LENGTH results, otherwise 0
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the error message, see {@link CustomValidator#getErrorMessage(ValidationResult)}.
+     * Message is built once for every validator and its settings.
+     *
+     * @param validator validator, which holds the messages
+     * @return error message or null, if the result is valid
+     */
+    public String getMessage(CustomValidator validator) {
+        if (rule == null) {
+            return null;
+        }
+        return validator.getCachedErrorMessage(this);
+    }
+
+    @Override
+    public String toString() {
+        return rule == null ? "VALID" : limit != 0 ? rule + "(" + limit + ")" : rule.toString();
+    }
+}
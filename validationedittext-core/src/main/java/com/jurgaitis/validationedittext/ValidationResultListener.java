@@ -0,0 +1,12 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Validation listener, which gets the typed result instead of the message.
+ * Message can be built, when it is needed, with {@link ValidationResult#getMessage(CustomValidator)}.
+ */
+public interface ValidationResultListener {
+    /**
+     * @param result validation result, {@link ValidationResult#VALID} if field is valid
+     */
+    void onValidationResult(ValidationResult result);
+}
@@ -0,0 +1,106 @@
+package com.jurgaitis.validationedittext;
+
+/**
+ * Typed validation rules. Every rule has the same name as its ValidationSettings constant.
+ * Rules are listed in the order they are checked.
+ */
+public enum ValidationRule {
+    NOT_EMPTY,
+    EMAIL,
+    ONLY_LETTERS,
+    ONLY_LETTERS_WITH_SPACES,
+    ONLY_LATIN_LETTERS,
+    ONLY_LATIN_LETTERS_WITH_SPACES,
+    ALPHANUMERIC,
+    ONLY_DIGITS,
+    MAX_LENGTH,
+    MIN_LENGTH,
+    ALL_LOWERCASE,
+    ALL_UPPERCASE,
+    AT_LEAST_ONE_LOWERCASE,
+    AT_LEAST_ONE_UPPERCASE,
+    AT_LEAST_ONE_DIGIT,
+    AT_LEAST_ONE_SPECIAL_CHARACTER,
+    AT_LEAST_ONE_LETTER,
+    VALID_POSTAL_CODE,
+    ONLY_CUSTOM_REGEX,
+    AT_LEAST_ONE_CUSTOM_REGEX;
+
+    /**
+     * Rules, which are answered from the CharacterClasses summary
+     */
+    static final int CHARACTER_CLASS_RULES = mask(ONLY_LETTERS, ONLY_LETTERS_WITH_SPACES, ONLY_LATIN_LETTERS,
+            ONLY_LATIN_LETTERS_WITH_SPACES, ALPHANUMERIC, ONLY_DIGITS, ALL_LOWERCASE, ALL_UPPERCASE,
+            AT_LEAST_ONE_LOWERCASE, AT_LEAST_ONE_UPPERCASE, AT_LEAST_ONE_DIGIT, AT_LEAST_ONE_SPECIAL_CHARACTER,
+            AT_LEAST_ONE_LETTER);
+
+    private static final ValidationRule[] RULES = values();
+
+    /**
+     * Gets the rule bit in the rules bitmask.
+     *
+     * @return rule bit
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Checks if the rule is in the rules bitmask.
+     *
+     * @param rules rules bitmask
+     * @return true if the rule bit is set
+     */
+    public boolean isIn(int rules) {
+        return (rules & mask()) != 0;
+    }
+
+    /**
+     * Builds the rules bitmask.
+     *
+     * @param rules rules
+     * @return rules bitmask
+     */
+    public static int mask(ValidationRule... rules) {
+        int mask = 0;
+        for (ValidationRule rule : rules) {
+            mask |= rule.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Builds the rules bitmask from ValidationSettings constants. Unknown values are ignored.
+     *
+     * @param settings validators, which must be selected from ValidationSettings
+     * @return rules bitmask
+     */
+    public static int mask(String... settings) {
+        int mask = 0;
+        for (String setting : settings) {
+            ValidationRule rule = fromSetting(setting);
+            if (rule != null) {
+                mask |= rule.mask();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the rule of the ValidationSettings constant.
+     *
+     * @param setting ValidationSettings constant
+     * @return rule or null, if there is no such rule
+     */
+    public static ValidationRule fromSetting(String setting) {
+        if (setting == null) {
+            return null;
+        }
+        for (ValidationRule rule : RULES) {
+            if (rule.name().equals(setting)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+}
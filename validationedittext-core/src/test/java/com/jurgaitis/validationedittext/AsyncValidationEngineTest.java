@@ -0,0 +1,366 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncValidationEngineTest {
+    private QueueExecutor validationExecutor;
+    private QueueExecutor mainExecutor;
+    private long now;
+    private AsyncValidationEngine engine;
+    private ValidationPlan plan;
+    private List<ValidationRule> results;
+    private List<Long> latencies;
+    private List<Boolean> timeouts;
+    private List<ValidationFailures> failuresList;
+    private AsyncValidationEngine.Callback callback;
+
+    @Before
+    public void setUp() {
+        validationExecutor = new QueueExecutor();
+        mainExecutor = new QueueExecutor();
+        engine = new AsyncValidationEngine(validationExecutor, mainExecutor, new Clock() {
+            @Override
+            public long uptimeMillis() {
+                return now;
+            }
+        });
+        plan = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.ONLY_DIGITS))
+                .build();
+        results = new ArrayList<>();
+        latencies = new ArrayList<>();
+        timeouts = new ArrayList<>();
+        failuresList = new ArrayList<>();
+        callback = new AsyncValidationEngine.Callback() {
+            @Override
+            public void onValidationResult(ValidationResult result, ValidationFailures failures, boolean timedOut,
+                                           long latencyMillis) {
+                results.add(result.getRule());
+                failuresList.add(failures);
+                timeouts.add(timedOut);
+                latencies.add(latencyMillis);
+            }
+        };
+    }
+
+    @Test
+    public void result_isDeliveredOnResultExecutor() {
+        now = 100;
+        engine.submit(plan, "12a", callback);
+        validationExecutor.runAll();
+        assertEquals(0, results.size());
+
+        now = 130;
+        mainExecutor.runAll();
+        assertEquals(1, results.size());
+        assertEquals(ValidationRule.ONLY_DIGITS, results.get(0));
+        assertEquals(Long.valueOf(30), latencies.get(0));
+    }
+
+    @Test
+    public void result_isInternedResultOfSubmittedPlan() {
+        ValidationPlan submittedPlan = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.MIN_LENGTH))
+                .setMinLength(5)
+                .build();
+        final List<ValidationResult> delivered = new ArrayList<>();
+        engine.submit(submittedPlan, "123", new AsyncValidationEngine.Callback() {
+            @Override
+            public void onValidationResult(ValidationResult result, ValidationFailures failures, boolean timedOut,
+                                           long latencyMillis) {
+                delivered.add(result);
+            }
+        });
+        validationExecutor.runAll();
+        mainExecutor.runAll();
+
+        assertSame(submittedPlan.getResult(ValidationRule.MIN_LENGTH), delivered.get(0));
+        assertEquals(5, delivered.get(0).getLimit());
+    }
+
+    @Test
+    public void allFailures_areDeliveredWhenRequested() {
+        ValidationPlan submittedPlan = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.MIN_LENGTH, ValidationRule.ONLY_DIGITS))
+                .setMinLength(5)
+                .build();
+        engine.submit(submittedPlan, "1a", callback);
+        engine.submit(submittedPlan, "1a", true, callback);
+        validationExecutor.runAll();
+        mainExecutor.runAll();
+
+        assertEquals(1, results.size());
+        ValidationFailures failures = failuresList.get(0);
+        assertEquals(2, failures.size());
+        assertTrue(failures.contains(ValidationRule.MIN_LENGTH));
+        assertTrue(failures.contains(ValidationRule.ONLY_DIGITS));
+        assertEquals(failures.getFirst().getRule(), results.get(0));
+
+        engine.submit(submittedPlan, "1a", callback);
+        validationExecutor.runAll();
+        mainExecutor.runAll();
+        assertNull(failuresList.get(1));
+    }
+
+    @Test
+    public void supersededValidation_isSkipped() {
+        engine.submit(plan, "12a", callback);
+        engine.submit(plan, "123", callback);
+        validationExecutor.runAll();
+        mainExecutor.runAll();
+
+        assertEquals(1, results.size());
+        assertNull(results.get(0));
+        assertEquals(1, engine.getDroppedCount());
+    }
+
+    @Test
+    public void staleResult_isDropped() {
+        engine.submit(plan, "12a", callback);
+        validationExecutor.runAll();
+        engine.submit(plan, "", callback);
+        mainExecutor.runAll();
+        assertEquals(0, results.size());
+
+        validationExecutor.runAll();
+        mainExecutor.runAll();
+        assertEquals(1, results.size());
+        assertEquals(ValidationRule.NOT_EMPTY, results.get(0));
+        assertEquals(2, engine.getSubmittedCount());
+        assertEquals(1, engine.getDeliveredCount());
+    }
+
+    @Test
+    public void submittedText_isSnapshot() {
+        StringBuilder text = new StringBuilder("123");
+        engine.submit(plan, text, callback);
+        text.append('a');
+        validationExecutor.runAll();
+        mainExecutor.runAll();
+
+        assertNull(results.get(0));
+    }
+
+    @Test
+    public void cancel_dropsPendingValidation() {
+        engine.submit(plan, "123", callback);
+        engine.cancel();
+        validationExecutor.runAll();
+        mainExecutor.runAll();
+
+        assertEquals(0, results.size());
+    }
+
+    @Test
+    public void guardedPlan_runsOnGuardedExecutor() {
+        QueueExecutor guardedExecutor = new QueueExecutor();
+        FakeLooper looper = new FakeLooper();
+        engine = new AsyncValidationEngine(validationExecutor, guardedExecutor, mainExecutor, looper, looper);
+        engine.submit(guardedPlan(Pattern.compile("\\d+")), "123", callback);
+        assertEquals(0, validationExecutor.size());
+        assertEquals(1, looper.getPendingCount());
+
+        guardedExecutor.runAll();
+        mainExecutor.runAll();
+        assertEquals(1, results.size());
+        assertNull(results.get(0));
+        assertFalse(timeouts.get(0));
+        // timeout of the delivered run is removed
+        assertEquals(0, looper.getPendingCount());
+    }
+
+    @Test
+    public void stuckGuardedRun_deliversTimedOutResult() {
+        // guarded executor never runs the task, like a match, which cannot be aborted on Android
+        QueueExecutor guardedExecutor = new QueueExecutor();
+        FakeLooper looper = new FakeLooper();
+        engine = new AsyncValidationEngine(validationExecutor, guardedExecutor, mainExecutor, looper, looper);
+        engine.submit(guardedPlan(Pattern.compile("\\d+")), "123", callback);
+
+        looper.advance(49);
+        assertEquals(0, results.size());
+        looper.advance(1);
+        assertEquals(1, results.size());
+        assertEquals(ValidationRule.ONLY_CUSTOM_REGEX, results.get(0));
+        assertTrue(timeouts.get(0));
+        assertEquals(Long.valueOf(50), latencies.get(0));
+        assertEquals(1, engine.getTimedOutCount());
+
+        // late result of the stuck run is dropped
+        guardedExecutor.runAll();
+        mainExecutor.runAll();
+        assertEquals(1, results.size());
+        assertEquals(1, engine.getDeliveredCount());
+    }
+
+    @Test
+    public void timedOutFailures_holdOnlyTimedOutRule() {
+        QueueExecutor guardedExecutor = new QueueExecutor();
+        FakeLooper looper = new FakeLooper();
+        engine = new AsyncValidationEngine(validationExecutor, guardedExecutor, mainExecutor, looper, looper);
+        engine.submit(guardedPlan(Pattern.compile("\\d+")), "123", true, callback);
+
+        looper.advance(50);
+        assertTrue(timeouts.get(0));
+        ValidationFailures failures = failuresList.get(0);
+        assertEquals(1, failures.size());
+        assertTrue(failures.contains(ValidationRule.ONLY_CUSTOM_REGEX));
+        assertEquals(ValidationRule.ONLY_CUSTOM_REGEX, failures.getFirst().getRule());
+    }
+
+    @Test
+    public void newSubmit_removesTimeoutOfSupersededRun() {
+        QueueExecutor guardedExecutor = new QueueExecutor();
+        FakeLooper looper = new FakeLooper();
+        engine = new AsyncValidationEngine(validationExecutor, guardedExecutor, mainExecutor, looper, looper);
+        ValidationPlan guardedPlan = guardedPlan(Pattern.compile("\\d+"));
+        engine.submit(guardedPlan, "12", callback);
+        looper.advance(30);
+        engine.submit(guardedPlan, "123", callback);
+        assertEquals(1, looper.getPendingCount());
+
+        looper.advance(30);
+        assertEquals(0, results.size());
+        engine.cancel();
+        looper.advance(100);
+        assertEquals(0, results.size());
+    }
+
+    @Test
+    public void sameTextInFlight_isNotRunAgain() {
+        QueueExecutor guardedExecutor = new QueueExecutor();
+        FakeLooper looper = new FakeLooper();
+        engine = new AsyncValidationEngine(validationExecutor, guardedExecutor, mainExecutor, looper, looper);
+        ValidationPlan guardedPlan = guardedPlan(Pattern.compile("\\d+"));
+        engine.submit(guardedPlan, "12a", callback);
+        engine.submit(guardedPlan, "12a", callback);
+        assertEquals(1, guardedExecutor.size());
+
+        // superseded run still runs for the run, which waits for it
+        guardedExecutor.runAll();
+        mainExecutor.runAll();
+        assertEquals(1, results.size());
+        assertEquals(ValidationRule.ONLY_CUSTOM_REGEX, results.get(0));
+        assertFalse(timeouts.get(0));
+
+        // finished run is not in flight anymore
+        engine.submit(guardedPlan, "12a", callback);
+        assertEquals(1, guardedExecutor.size());
+        // run without failures cannot serve a run, which needs them
+        engine.submit(guardedPlan, "12a", true, callback);
+        assertEquals(2, guardedExecutor.size());
+    }
+
+    @Test
+    public void rejectedGuardedRun_timesOutAtOnce() {
+        Executor fullExecutor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        };
+        FakeLooper looper = new FakeLooper();
+        engine = new AsyncValidationEngine(validationExecutor, fullExecutor, mainExecutor, looper, looper);
+        ValidationPlan guardedPlan = guardedPlan(Pattern.compile("\\d+"));
+        engine.submit(guardedPlan, "123", callback);
+        assertEquals(0, looper.getPendingCount());
+
+        mainExecutor.runAll();
+        assertEquals(1, results.size());
+        assertEquals(ValidationRule.ONLY_CUSTOM_REGEX, results.get(0));
+        assertTrue(timeouts.get(0));
+        assertEquals(1, engine.getRejectedCount());
+        assertEquals(1, engine.getTimedOutCount());
+
+        // rejected run is not in flight, so the same text is submitted again
+        engine.submit(guardedPlan, "123", callback);
+        assertEquals(2, engine.getRejectedCount());
+    }
+
+    @Test
+    public void catastrophicPattern_timesOutWithoutWaitingForTheMatch() throws InterruptedException {
+        ExecutorService guardedExecutor = Executors.newSingleThreadExecutor();
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            // blocked thread stands in for a runaway ICU match, which ignores the guarded text
+            guardedExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            FakeLooper looper = new FakeLooper();
+            engine = new AsyncValidationEngine(validationExecutor, guardedExecutor, mainExecutor, looper, looper);
+            engine.submit(guardedPlan(Pattern.compile("(.*a){12}x")), "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", callback);
+            engine.submit(plan, "12a", callback);
+
+            // unguarded plans do not wait for the guarded thread
+            validationExecutor.runAll();
+            mainExecutor.runAll();
+            assertEquals(1, results.size());
+            assertEquals(ValidationRule.ONLY_DIGITS, results.get(0));
+
+            engine.submit(guardedPlan(Pattern.compile("(.*a){12}x")), "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", callback);
+            looper.advance(50);
+            assertEquals(2, results.size());
+            assertEquals(ValidationRule.ONLY_CUSTOM_REGEX, results.get(1));
+            assertTrue(timeouts.get(1));
+        } finally {
+            release.countDown();
+            guardedExecutor.shutdown();
+            assertTrue(guardedExecutor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        // on the JVM the guard aborts the match itself, its late result is dropped
+        mainExecutor.runAll();
+        assertEquals(2, results.size());
+    }
+
+    private static ValidationPlan guardedPlan(Pattern pattern) {
+        return new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.ONLY_CUSTOM_REGEX))
+                .setOnlyCustomPattern(pattern)
+                .setRegexGuard(new RegexGuard(0, 50))
+                .build();
+    }
+
+    private static final class QueueExecutor implements Executor {
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int size() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BulkValidatorTest {
+    private static final String[] SAMPLES = {"", "ab", "abc", "abc1", "ABC", "abcdef", "abcdefghijk", "a b",
+            "abc!", "xyz", "12"};
+
+    private static ForkJoinPool pool;
+    private static ValidationPlan plan;
+
+    @BeforeClass
+    public static void setUpClass() {
+        pool = new ForkJoinPool(3);
+        plan = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.MIN_LENGTH,
+                        ValidationRule.MAX_LENGTH, ValidationRule.ONLY_LETTERS, ValidationRule.ALL_LOWERCASE))
+                .setMinLength(3)
+                .setMaxLength(8)
+                .build();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void array_matchesPlan() {
+        String[] values = values(100);
+        assertArrayEquals(expected(values), new BulkValidator(plan, pool, 3).validate(values));
+    }
+
+    @Test
+    public void randomAccessList_matchesPlan() {
+        String[] values = values(100);
+        assertArrayEquals(expected(values),
+                new BulkValidator(plan, pool, 3).validate(new ArrayList<>(Arrays.asList(values))));
+    }
+
+    @Test
+    public void sequentialList_matchesPlan() {
+        String[] values = values(100);
+        assertArrayEquals(expected(values),
+                new BulkValidator(plan, pool, 3, 16).validate(new LinkedList<>(Arrays.asList(values))));
+    }
+
+    @Test
+    public void iteratorLongerThanChunk_growsResults() {
+        // chunks of 4, 4 and 3: results grow twice, from 4 to 8 and from 8 to 16, and are trimmed to 11
+        String[] values = values(11);
+        assertArrayEquals(expected(values),
+                new BulkValidator(plan, pool, 2, 4).validate(Arrays.asList(values).iterator()));
+    }
+
+    @Test
+    public void chunkGrowingToMaxSize_matchesPlan() {
+        // chunk grows from 16 to 32 and 64 in the first chunk, the second chunk reuses it
+        BulkValidator validator = new BulkValidator(plan, pool, 8, 64);
+        for (int count : new int[]{3, 16, 17, 64, 100}) {
+            String[] values = values(count);
+            assertArrayEquals(expected(values), validator.validate(Arrays.asList(values).iterator()));
+        }
+    }
+
+    @Test
+    public void iteratorOfWholeChunks_matchesPlan() {
+        String[] values = values(8);
+        assertArrayEquals(expected(values),
+                new BulkValidator(plan, pool, 2, 4).validate(Arrays.asList(values).iterator()));
+    }
+
+    @Test
+    public void emptyInput_returnsNoResults() {
+        BulkValidator validator = new BulkValidator(plan, pool, 2, 4);
+        assertEquals(0, validator.validate(new String[0]).length);
+        assertEquals(0, validator.validate(Collections.<String>emptyList()).length);
+        assertEquals(0, validator.validate(Collections.<String>emptyList().iterator()).length);
+    }
+
+    @Test
+    public void withoutPool_validatesOnCallingThread() {
+        String[] values = values(11);
+        BulkValidator validator = new BulkValidator(plan, null, 2, 4);
+        assertArrayEquals(expected(values), validator.validate(values));
+        assertArrayEquals(expected(values), validator.validate(new ArrayList<>(Arrays.asList(values))));
+        assertArrayEquals(expected(values), validator.validate(new LinkedList<>(Arrays.asList(values))));
+    }
+
+    @Test
+    public void defaultValidator_usesSharedPool() {
+        assertTrue(BulkValidator.isParallelAvailable());
+        String[] values = values(2000);
+        assertArrayEquals(expected(values), new BulkValidator(plan).validate(values));
+    }
+
+    @Test
+    public void getFailedRule_returnsRuleOfResult() {
+        assertNull(BulkValidator.getFailedRule(BulkValidator.VALID));
+        for (ValidationRule rule : ValidationRule.values()) {
+            assertEquals(rule, BulkValidator.getFailedRule((byte) rule.ordinal()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroBatchSize_throws() {
+        new BulkValidator(plan, pool, 0);
+    }
+
+    private static String[] values(int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = SAMPLES[i % SAMPLES.length];
+        }
+        return values;
+    }
+
+    private static byte[] expected(String[] values) {
+        byte[] results = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ValidationRule failedRule = plan.validate(values[i]);
+            results[i] = failedRule == null ? BulkValidator.VALID : (byte) failedRule.ordinal();
+        }
+        return results;
+    }
+}
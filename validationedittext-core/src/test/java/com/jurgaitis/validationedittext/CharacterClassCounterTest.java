@@ -0,0 +1,115 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class CharacterClassCounterTest {
+    /**
+     * ASCII classes, non-ASCII letters, digits and spaces, halves of surrogate pairs
+     */
+    private static final String ALPHABET = "aZ5 _\u00DF\u0130\u01C5\u0661\u00A0\u4E2D\uD801\uDC00\uD835\uDFCE";
+
+    private final CharacterClassCounter counter = new CharacterClassCounter();
+    private final StringBuilder text = new StringBuilder();
+
+    @Test
+    public void randomEdits_matchFullScan() {
+        Random random = new Random(11);
+        for (int i = 0; i < 20000; i++) {
+            int start = random.nextInt(text.length() + 1);
+            int count = random.nextInt(Math.min(text.length() - start, 3) + 1);
+            replace(start, count, randomText(random, random.nextInt(4)));
+            assertSummary();
+            if (text.length() > 40) {
+                replace(0, text.length() / 2, "");
+                assertSummary();
+            }
+        }
+    }
+
+    @Test
+    public void fullReplace_matchesFullScan() {
+        replace(0, 0, "abc");
+        assertSummary();
+        replace(0, 3, "\u0661\u0662");
+        assertSummary();
+        replace(0, 2, "");
+        assertSummary();
+    }
+
+    @Test
+    public void textChangedWithoutBeforeCall_matchesFullScan() {
+        replace(0, 0, "abc");
+        assertSummary();
+        text.replace(1, 2, "1");
+        counter.onTextChanged(text, 1, 1, 1);
+        assertSummary();
+    }
+
+    @Test
+    public void mismatchedBeforeAndAfterCalls_matchFullScan() {
+        replace(0, 0, "abcd");
+        assertSummary();
+        counter.beforeTextChanged(text, 1, 1, 1);
+        text.replace(2, 4, "X");
+        counter.onTextChanged(text, 2, 2, 1);
+        assertSummary();
+
+        counter.beforeTextChanged(text, 0, 1, 2);
+        text.replace(0, 1, "5");
+        counter.onTextChanged(text, 0, 1, 1);
+        assertSummary();
+    }
+
+    @Test
+    public void textChangedBehindTheCounter_matchesFullScan() {
+        replace(0, 0, "abc");
+        assertSummary();
+        // e.g. setText, which was not reported to the counter
+        text.replace(0, 3, "ABCD");
+        assertSummary();
+    }
+
+    @Test
+    public void editSplittingSurrogatePair_matchesFullScan() {
+        replace(0, 0, "a\uD835\uDFCEb");
+        assertSummary();
+        // low surrogate of the digit is replaced with a letter
+        replace(2, 1, "c");
+        assertSummary();
+        // pair is joined again
+        replace(2, 1, "\uDFCE");
+        assertSummary();
+        // character between the halves of a pair is removed
+        replace(0, text.length(), "\uD801x\uDC00");
+        assertSummary();
+        replace(1, 1, "");
+        assertSummary();
+        // high surrogate is inserted before a lone low surrogate
+        replace(0, text.length(), "a\uDC00");
+        assertSummary();
+        replace(1, 0, "\uD801");
+        assertSummary();
+    }
+
+    private void replace(int start, int count, String replacement) {
+        counter.beforeTextChanged(text, start, count, replacement.length());
+        text.replace(start, start + count, replacement);
+        counter.onTextChanged(text, start, count, replacement.length());
+    }
+
+    private void assertSummary() {
+        assertEquals(text.toString(), CharacterClasses.scan(text), counter.summary(text));
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
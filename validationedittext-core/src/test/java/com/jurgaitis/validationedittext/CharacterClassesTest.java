@@ -0,0 +1,131 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the summary against the original CustomValidator regexes. Patterns are compiled with
+ * UNICODE_CHARACTER_CLASS, so \d and \s have the ICU meaning, which they have on Android.
+ */
+public class CharacterClassesTest {
+    private static final int FLAGS = Pattern.UNICODE_CHARACTER_CLASS;
+    private static final Pattern ONLY_LETTERS = Pattern.compile("\\p{L}+", FLAGS);
+    private static final Pattern ONLY_LETTERS_WITH_SPACES = Pattern.compile("[\\p{L}\\s]+", FLAGS);
+    private static final Pattern ONLY_LATIN_LETTERS = Pattern.compile("[a-zA-Z]+", FLAGS);
+    private static final Pattern ONLY_LATIN_LETTERS_WITH_SPACES = Pattern.compile("[a-zA-Z\\s]+", FLAGS);
+    private static final Pattern ALPHANUMERIC = Pattern.compile("^[a-zA-Z0-9]+$", FLAGS);
+    private static final Pattern ONLY_DIGITS = Pattern.compile("\\d+", FLAGS);
+    private static final Pattern LOWERCASE = Pattern.compile("[a-z]", FLAGS);
+    private static final Pattern UPPERCASE = Pattern.compile("[A-Z]", FLAGS);
+    private static final Pattern DIGIT = Pattern.compile(".*\\d.*", FLAGS);
+    private static final Pattern SPECIAL_CHARACTER = Pattern.compile("[^a-zA-Z0-9\\s]", FLAGS);
+    private static final Pattern LETTER = Pattern.compile("[a-zA-Z]", FLAGS);
+
+    /**
+     * ASCII, non-ASCII digits and spaces, characters without simple case mappings, supplementary
+     * letters and digits, lone surrogates
+     */
+    private static final String ALPHABET = "aZ09 \t\n\u000B\f\r_-@.\u0085\u00A0\u1680\u2000\u2007\u200A\u200B"
+            + "\u2028\u2029\u202F\u205F\u3000\u001C\u180E\u0660\u0669\u06F5\u0966\u0E51\uFF10\u00B2\u2163"
+            + "\u00DF\u0130\u0131\u01C5\u1E9E\u03A3\u0390\u00E9\u0104\u017E\u05D0\u4E2D"
+            + "\uD835\uDFCE\uD801\uDC00\uD801\uDC28\uD800\uDC00\uD83D\uDE00\uD800\uDC00";
+
+    @Test
+    public void nonAsciiDigits_areDigits() {
+        int summary = CharacterClasses.scan("\u0661\u0662\u0663");
+        assertTrue(CharacterClasses.isOnlyDigits(summary));
+        assertTrue(CharacterClasses.hasAtLeastOneDigit(summary));
+        assertFalse(CharacterClasses.isAlphanumeric(summary));
+        assertTrue(CharacterClasses.hasAtLeastOneSpecialCharacter(summary));
+    }
+
+    @Test
+    public void noBreakSpace_isWhitespace() {
+        int summary = CharacterClasses.scan("Jonas\u00A0Jonaitis");
+        assertTrue(CharacterClasses.isOnlyLettersWithSpaces(summary));
+        assertTrue(CharacterClasses.isOnlyLatinLettersWithSpaces(summary));
+        assertFalse(CharacterClasses.hasAtLeastOneSpecialCharacter(summary));
+    }
+
+    @Test
+    public void javaWhitespaceOutsideWhiteSpaceProperty_isNotWhitespace() {
+        // Character.isWhitespace is true for the file separator, \s is not
+        assertFalse(CharacterClasses.isOnlyLettersWithSpaces(CharacterClasses.scan("a\u001Cb")));
+    }
+
+    @Test
+    public void samples_matchOriginalPatterns() {
+        String[] samples = {"", "abc", "ABC", "Abc", "abc1", "123", "\u0661\u0662\u0663", "Jonas\u00A0Jonaitis",
+                "Jonas Jonaitis", "stra\u00DFe", "STRASSE", "\u01C5", "\u0130stanbul", "\uD835\uDFCE\uD835\uDFCF",
+                "\uD801\uDC00", "\uD801\uDC28", "a\uD800", "\uDC00a", "\u2007", "x\u3000y", "\u00B2"};
+        for (String sample : samples) {
+            assertMatchesPatterns(sample);
+        }
+    }
+
+    @Test
+    public void randomText_matchesOriginalPatterns() {
+        Random random = new Random(7);
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            value.setLength(0);
+            int length = random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                if (random.nextInt(4) == 0) {
+                    // any BMP character, including unpaired surrogates
+                    value.append((char) random.nextInt(0x10000));
+                } else {
+                    value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+            }
+            assertMatchesPatterns(value.toString());
+        }
+    }
+
+    @Test
+    public void rangeScan_equalsScanOfSubstring() {
+        String value = "ab\uD835\uDFCE \u00A0\u0661Z\u00DF";
+        for (int start = 0; start <= value.length(); start++) {
+            for (int end = start; end <= value.length(); end++) {
+                assertEquals(value + " " + start + ".." + end,
+                        CharacterClasses.scan(value.substring(start, end)), CharacterClasses.scan(value, start, end));
+            }
+        }
+    }
+
+    private static void assertMatchesPatterns(String value) {
+        int summary = CharacterClasses.scan(value);
+        String message = escape(value);
+        assertEquals(message, ONLY_LETTERS.matcher(value).matches(), CharacterClasses.isOnlyLetters(summary));
+        assertEquals(message, ONLY_LETTERS_WITH_SPACES.matcher(value).matches(),
+                CharacterClasses.isOnlyLettersWithSpaces(summary));
+        assertEquals(message, ONLY_LATIN_LETTERS.matcher(value).matches(),
+                CharacterClasses.isOnlyLatinLetters(summary));
+        assertEquals(message, ONLY_LATIN_LETTERS_WITH_SPACES.matcher(value).matches(),
+                CharacterClasses.isOnlyLatinLettersWithSpaces(summary));
+        assertEquals(message, ALPHANUMERIC.matcher(value).matches(), CharacterClasses.isAlphanumeric(summary));
+        assertEquals(message, ONLY_DIGITS.matcher(value).matches(), CharacterClasses.isOnlyDigits(summary));
+        assertEquals(message, value.equals(value.toLowerCase()), CharacterClasses.isLowercase(summary, value));
+        assertEquals(message, value.equals(value.toUpperCase()), CharacterClasses.isUppercase(summary, value));
+        assertEquals(message, LOWERCASE.matcher(value).find(), CharacterClasses.hasAtLeastOneLowercase(summary));
+        assertEquals(message, UPPERCASE.matcher(value).find(), CharacterClasses.hasAtLeastOneUppercase(summary));
+        assertEquals(message, DIGIT.matcher(value).find(), CharacterClasses.hasAtLeastOneDigit(summary));
+        assertEquals(message, SPECIAL_CHARACTER.matcher(value).find(),
+                CharacterClasses.hasAtLeastOneSpecialCharacter(summary));
+        assertEquals(message, LETTER.matcher(value).find(), CharacterClasses.hasAtLeastOneLetter(summary));
+    }
+
+    private static String escape(String value) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            builder.append(String.format("\\u%04X", (int) value.charAt(i)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.regex.Pattern;
+
+/**
+ * Email address pattern, same as android.util.Patterns.EMAIL_ADDRESS. Reference for EmailValidator tests.
+ */
+final class EmailPattern {
+    static final Pattern EMAIL_ADDRESS = Pattern.compile(
+            "[a-zA-Z0-9\\+\\.\\_\\%\\-\\+]{1,256}" +
+                    "\\@" +
+                    "[a-zA-Z0-9][a-zA-Z0-9\\-]{0,64}" +
+                    "(" +
+                    "\\." +
+                    "[a-zA-Z0-9][a-zA-Z0-9\\-]{0,25}" +
+                    ")+"
+    );
+
+    private EmailPattern() {
+    }
+}
@@ -0,0 +1,89 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EmailValidatorTest {
+    private static final String[] CORPUS = {
+            "", "@", "a@b", "a@b.c", "a@b.co", "a@b.c.d", "jonas@example.com", "jonas.jonaitis+news@example.co.uk",
+            "a_b%c-d@host-name.org", ".a@b.co", "a.@b.co", "a..b@b.co", "a@-b.co", "a@b-.co", "a@b.-co",
+            "a@b..co", "a@.b.co", "a@b.co.", "a@@b.co", "a b@c.de", "a@b c.de", "a@b.c d", "@b.co", "a@",
+            "a@b.", "a@b.123", "a!b@c.de", "a#b@c.de", "a'b@c.de", "\"a\"@b.co", "a@[127.0.0.1]",
+            "ąčę@example.com", "jonas@ąčę.lt", "a@b.c\n", "a@b.c ", " a@b.c", "A@B.CO", "1@2.3",
+            repeat('a', 64) + "@b.co", repeat('a', 65) + "@b.co", repeat('a', 256) + "@b.co",
+            repeat('a', 257) + "@b.co", "a@" + repeat('b', 63) + ".co", "a@" + repeat('b', 64) + ".co",
+            "a@" + repeat('b', 65) + ".co", "a@" + repeat('b', 66) + ".co", "a@b." + repeat('c', 26),
+            "a@b." + repeat('c', 27), "a@b." + repeat('c', 63) + ".de", "a@b." + repeat('c', 64) + ".de"
+    };
+    private static final String ALPHABET = "aZ09+._%-@!#'~ \"[]ą";
+
+    @Test
+    public void compatible_agreesWithPatternsCorpus() {
+        for (String value : CORPUS) {
+            assertCompatible(value);
+        }
+    }
+
+    @Test
+    public void compatible_agreesWithPatternsFuzz() {
+        Random random = new Random(5321);
+        for (int i = 0; i < 200000; i++) {
+            StringBuilder value = new StringBuilder(CORPUS[random.nextInt(CORPUS.length)]);
+            int edits = 1 + random.nextInt(3);
+            for (int edit = 0; edit < edits; edit++) {
+                int position = random.nextInt(value.length() + 1);
+                char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                if (random.nextBoolean() || position == value.length()) {
+                    value.insert(position, c);
+                } else if (random.nextBoolean()) {
+                    value.setCharAt(position, c);
+                } else {
+                    value.deleteCharAt(position);
+                }
+            }
+            assertCompatible(value.toString());
+        }
+    }
+
+    @Test
+    public void rfc5321() {
+        EmailValidator.Strictness rfc = EmailValidator.Strictness.RFC_5321;
+        assertTrue(EmailValidator.isValid("jonas.jonaitis+news@example.co.uk", rfc));
+        assertTrue(EmailValidator.isValid("a!#$&'*/=?^`{|}~b@c.de", rfc));
+        assertTrue(EmailValidator.isValid(repeat('a', 64) + "@b.co", rfc));
+        assertTrue(EmailValidator.isValid("a@" + repeat('b', 63) + ".co", rfc));
+        assertTrue(EmailValidator.isValid("a@b.c", rfc));
+
+        assertFalse(EmailValidator.isValid(repeat('a', 65) + "@b.co", rfc));
+        assertFalse(EmailValidator.isValid("a@" + repeat('b', 64) + ".co", rfc));
+        assertFalse(EmailValidator.isValid(".a@b.co", rfc));
+        assertFalse(EmailValidator.isValid("a.@b.co", rfc));
+        assertFalse(EmailValidator.isValid("a..b@b.co", rfc));
+        assertFalse(EmailValidator.isValid("a@-b.co", rfc));
+        assertFalse(EmailValidator.isValid("a@b-.co", rfc));
+        assertFalse(EmailValidator.isValid("a@b.co-", rfc));
+        assertFalse(EmailValidator.isValid("a@b..co", rfc));
+        assertFalse(EmailValidator.isValid("a@b.123", rfc));
+        assertFalse(EmailValidator.isValid("a@b", rfc));
+        assertFalse(EmailValidator.isValid("a,b@c.de", rfc));
+        assertFalse(EmailValidator.isValid("a@" + repeat('b', 60) + "." + repeat('c', 60) + "."
+                + repeat('d', 60) + "." + repeat('e', 60) + "." + repeat('f', 60) + ".gh", rfc));
+    }
+
+    private static void assertCompatible(String value) {
+        assertEquals(value, EmailPattern.EMAIL_ADDRESS.matcher(value).matches(), EmailValidator.isValid(value));
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.jurgaitis.validationedittext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fake clock and looper: callbacks run in time order, when time is advanced.
+ */
+final class FakeLooper implements Clock, TypingDebouncer.Scheduler {
+    private final List<Runnable> callbacks = new ArrayList<>();
+    private final List<Long> times = new ArrayList<>();
+    private long now;
+    private int removeCount;
+
+    @Override
+    public long uptimeMillis() {
+        return now;
+    }
+
+    @Override
+    public void postAtTime(Runnable callback, long uptimeMillis) {
+        callbacks.add(callback);
+        times.add(uptimeMillis);
+    }
+
+    @Override
+    public void removeCallbacks(Runnable callback) {
+        removeCount++;
+        for (int i = callbacks.size() - 1; i >= 0; i--) {
+            if (callbacks.get(i) == callback) {
+                callbacks.remove(i);
+                times.remove(i);
+            }
+        }
+    }
+
+    int getRemoveCount() {
+        return removeCount;
+    }
+
+    /**
+     * @return count of posted callbacks, which did not run yet
+     */
+    int getPendingCount() {
+        return callbacks.size();
+    }
+
+    void advance(long millis) {
+        long target = now + millis;
+        while (true) {
+            int next = -1;
+            for (int i = 0; i < times.size(); i++) {
+                if (times.get(i) <= target && (next < 0 || times.get(i) < times.get(next))) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            now = Math.max(now, times.remove(next));
+            callbacks.remove(next).run();
+        }
+        now = target;
+    }
+}
@@ -0,0 +1,164 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FieldGroupTest {
+    private FakeLooper looper;
+    private FieldGroup group;
+    private List<String> stopped;
+
+    @Before
+    public void setUp() {
+        looper = new FakeLooper();
+        group = new FieldGroup(looper, looper);
+        stopped = new ArrayList<>();
+    }
+
+    @Test
+    public void typing_postsOnlyForEarlierDeadline() {
+        FieldGroup.Field a = field("a");
+        FieldGroup.Field b = field("b");
+        group.add(a, true);
+        group.add(b, true);
+
+        group.scheduleStoppedTyping(a, 1000);
+        group.scheduleStoppedTyping(b, 1200);
+        group.scheduleStoppedTyping(a, 1100);
+        assertEquals(1, group.getScheduleCount());
+
+        group.scheduleStoppedTyping(b, 500);
+        assertEquals(2, group.getScheduleCount());
+        assertEquals(1, looper.getRemoveCount());
+        assertEquals(1, looper.getPendingCount());
+    }
+
+    @Test
+    public void fire_runsDueFieldsAndRepostsNextMinimum() {
+        FieldGroup.Field a = field("a");
+        FieldGroup.Field b = field("b");
+        FieldGroup.Field c = field("c");
+        group.add(a, true);
+        group.add(b, true);
+        group.add(c, true);
+        group.scheduleStoppedTyping(a, 1000);
+        group.scheduleStoppedTyping(b, 1000);
+        group.scheduleStoppedTyping(c, 3000);
+
+        looper.advance(1000);
+        assertEquals(Arrays.asList("a", "b"), stopped);
+        assertEquals(FieldGroup.NO_DEADLINE, group.getDeadline(a));
+        // rescan after the fire found the deadline of c
+        assertEquals(1, looper.getPendingCount());
+
+        looper.advance(1999);
+        assertEquals(2, stopped.size());
+        looper.advance(1);
+        assertEquals(Arrays.asList("a", "b", "c"), stopped);
+        assertEquals(0, looper.getPendingCount());
+    }
+
+    @Test
+    public void fire_picksUpDeadlineMovedWhilePending() {
+        FieldGroup.Field a = field("a");
+        group.add(a, true);
+        group.scheduleStoppedTyping(a, 1000);
+        group.scheduleStoppedTyping(a, 1800);
+
+        looper.advance(1000);
+        assertTrue(stopped.isEmpty());
+        assertEquals(1, looper.getPendingCount());
+
+        looper.advance(800);
+        assertEquals(Arrays.asList("a"), stopped);
+    }
+
+    @Test
+    public void removedField_isNotChecked() {
+        FieldGroup.Field a = field("a");
+        group.add(a, true);
+        group.scheduleStoppedTyping(a, 1000);
+        group.remove(a);
+
+        looper.advance(2000);
+
+        assertTrue(stopped.isEmpty());
+    }
+
+    @Test
+    public void cancel_dropsDeadline() {
+        FieldGroup.Field a = field("a");
+        group.add(a, true);
+        group.scheduleStoppedTyping(a, 1000);
+        group.cancelStoppedTyping(a);
+
+        looper.advance(2000);
+
+        assertTrue(stopped.isEmpty());
+        assertEquals(0, looper.getPendingCount());
+    }
+
+    @Test
+    public void invalidCount_followsValidationAddAndRemove() {
+        FieldGroup.Field a = field("a");
+        FieldGroup.Field b = field("b");
+        assertTrue(group.add(a, false));
+        assertFalse(group.add(a, false));
+        group.add(b, true);
+        assertEquals(1, group.getInvalidCount());
+        assertFalse(group.isValid());
+
+        group.onFieldValidated(b, false);
+        group.onFieldValidated(b, false);
+        assertEquals(2, group.getInvalidCount());
+
+        group.onFieldValidated(a, true);
+        assertEquals(1, group.getInvalidCount());
+
+        assertTrue(group.remove(b));
+        assertFalse(group.remove(b));
+        assertTrue(group.isValid());
+        assertEquals(1, group.size());
+
+        // results of a removed field are ignored
+        group.onFieldValidated(b, false);
+        assertTrue(group.isValid());
+    }
+
+    @Test
+    public void fieldAddedByCheck_isKeptForNextFire() {
+        final FieldGroup.Field late = field("late");
+        FieldGroup.Field a = new FieldGroup.Field() {
+            @Override
+            public void onStoppedTyping() {
+                stopped.add("a");
+                group.add(late, true);
+                group.scheduleStoppedTyping(late, looper.uptimeMillis() + 500);
+            }
+        };
+        group.add(a, true);
+        group.scheduleStoppedTyping(a, 1000);
+
+        looper.advance(1000);
+        assertEquals(Arrays.asList("a"), stopped);
+        looper.advance(500);
+        assertEquals(Arrays.asList("a", "late"), stopped);
+    }
+
+    private FieldGroup.Field field(final String name) {
+        return new FieldGroup.Field() {
+            @Override
+            public void onStoppedTyping() {
+                stopped.add(name);
+            }
+        };
+    }
+}
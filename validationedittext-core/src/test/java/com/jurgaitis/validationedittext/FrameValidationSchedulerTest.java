@@ -0,0 +1,91 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FrameValidationSchedulerTest {
+    private static final long FRAME = FrameValidationScheduler.DEFAULT_FRAME_BUDGET_NANOS;
+
+    private FakeChoreographer choreographer;
+    private int runs;
+    private FrameValidationScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        choreographer = new FakeChoreographer();
+        scheduler = new FrameValidationScheduler(choreographer, new Runnable() {
+            @Override
+            public void run() {
+                runs++;
+            }
+        });
+    }
+
+    @Test
+    public void editsWithinFrame_coalescedIntoOneRun() {
+        for (int i = 0; i < 50; i++) {
+            scheduler.onTextChanged();
+        }
+        assertEquals(1, choreographer.posted);
+
+        scheduler.doFrame(FRAME, FRAME + 1000000);
+
+        assertEquals(1, runs);
+        assertFalse(scheduler.isPending());
+    }
+
+    @Test
+    public void overBudgetFrame_defersValidation() {
+        scheduler.onTextChanged();
+
+        scheduler.doFrame(FRAME, FRAME + 2 * FRAME);
+        assertEquals(0, runs);
+        assertEquals(2, choreographer.posted);
+
+        scheduler.doFrame(2 * FRAME, 2 * FRAME + 1000000);
+        assertEquals(1, runs);
+        assertEquals(1, scheduler.getDeferredCount());
+    }
+
+    @Test
+    public void deferral_isLimited() {
+        scheduler.setMaxDeferredFrames(2);
+        scheduler.onTextChanged();
+
+        for (int frame = 1; frame <= 3; frame++) {
+            scheduler.doFrame(frame * FRAME, frame * FRAME + 3 * FRAME);
+        }
+
+        assertEquals(1, runs);
+        assertEquals(2, scheduler.getDeferredCount());
+    }
+
+    @Test
+    public void cancel_removesCallback() {
+        scheduler.onTextChanged();
+        scheduler.cancel();
+
+        assertTrue(choreographer.removed);
+        scheduler.doFrame(FRAME, FRAME);
+        assertEquals(0, runs);
+    }
+
+    private static final class FakeChoreographer implements FrameValidationScheduler.FrameScheduler {
+        int posted;
+        boolean removed;
+
+        @Override
+        public void postFrameCallback() {
+            posted++;
+        }
+
+        @Override
+        public void removeFrameCallback() {
+            removed = true;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PasswordStrengthMeterTest {
+    private static final String ALPHABET = "aabcxyzABCD0123456789!@ #é😀";
+
+    @Test
+    public void measure_countsRepeatsAndSequences() {
+        PasswordStrengthMeter meter = PasswordStrengthMeter.measure("aaab1234");
+
+        assertEquals(8, meter.getLength());
+        assertEquals(2, meter.getClassCount());
+        assertEquals(2, meter.getRepeatCount());
+        assertEquals(4, meter.getSequenceCount());
+        assertEquals(PasswordStrengthMeter.Strength.VERY_WEAK, meter.getStrength());
+    }
+
+    @Test
+    public void measure_strengthGrowsWithDiversity() {
+        assertEquals(PasswordStrengthMeter.Strength.VERY_WEAK, PasswordStrengthMeter.measure("").getStrength());
+        assertEquals(PasswordStrengthMeter.Strength.WEAK, PasswordStrengthMeter.measure("qwghtkr").getStrength());
+        assertEquals(PasswordStrengthMeter.Strength.FAIR, PasswordStrengthMeter.measure("Tr0ub4do").getStrength());
+        assertEquals(PasswordStrengthMeter.Strength.STRONG, PasswordStrengthMeter.measure("Tr0ub4dor&3").getStrength());
+        assertEquals(PasswordStrengthMeter.Strength.VERY_STRONG,
+                PasswordStrengthMeter.measure("correct horse battery staple").getStrength());
+    }
+
+    @Test
+    public void incrementalEdits_matchFullMeasure() {
+        Random random = new Random(22);
+        StringBuilder text = new StringBuilder();
+        PasswordStrengthMeter meter = new PasswordStrengthMeter();
+        meter.update(text);
+        for (int i = 0; i < 20000; i++) {
+            int start = random.nextInt(text.length() + 1);
+            int count = random.nextInt(Math.min(4, text.length() - start) + 1);
+            String replacement = randomText(random, random.nextInt(4));
+
+            meter.beforeTextChanged(text, start, count, replacement.length());
+            text.replace(start, start + count, replacement);
+            meter.onTextChanged(text, start, count, replacement.length());
+            meter.update(text);
+
+            PasswordStrengthMeter expected = PasswordStrengthMeter.measure(text);
+            assertEquals(text.toString(), expected.getLength(), meter.getLength());
+            assertEquals(text.toString(), expected.getClassCount(), meter.getClassCount());
+            assertEquals(text.toString(), expected.getRepeatCount(), meter.getRepeatCount());
+            assertEquals(text.toString(), expected.getSequenceCount(), meter.getSequenceCount());
+            assertEquals(text.toString(), expected.getEntropyBits(), meter.getEntropyBits(), 1e-9);
+            if (text.length() > 40) {
+                text.setLength(0);
+                meter.invalidate();
+            }
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PostalCodeIndexTest {
+    private static final String[] SAMPLES = {
+            "", "12345", "1234", "123456", "97133", "97150", "97210", "98000", "47890", "120", "1101",
+            "SW1A 1AA", "LT-12345", "12345, 54321", "AZ1234", "K1A 0B1", "12345-6789", "12 345", "123 45",
+            "AI-2640", "CD", "FIQQ 1ZZ", "1234 AB", "ASCN 1ZZ", "GX11 1AA", "12 (123-456)", "1 road 123456",
+            // ARABIC-INDIC and MATHEMATICAL BOLD digits
+            "\u0661\u0662\u0663\u0664\u0665", "97\u0661\u0663\u0663", "\uD835\uDFCF2345"
+    };
+    private static final String MUTATIONS = "0123456789 -,ADLTZaz()\u0105\u0661\u06F5";
+    private static final int LETTER_COUNT = 26;
+
+    @Test
+    public void findCountries_matchesEveryCountryPattern() {
+        for (String value : values()) {
+            assertEquals(value, naiveFindCountries(value), PostalCodeValidator.findCountries(value));
+        }
+    }
+
+    @Test
+    public void unicodeDigits_matchLikeIcuPatterns() {
+        // patterns with ICU semantics of \d, as on Android
+        String[] regexes = new String[LETTER_COUNT * LETTER_COUNT];
+        final Pattern[] patterns = new Pattern[regexes.length];
+        for (int i = 0; i < regexes.length; i++) {
+            String countryCode = countryCode(i);
+            if (PostalCodeValidator.isPostalCodeRequired(countryCode)) {
+                regexes[i] = PostalCodeValidator.getPattern(countryCode).pattern();
+                patterns[i] = Pattern.compile(regexes[i], Pattern.UNICODE_CHARACTER_CLASS);
+            }
+        }
+        PostalCodeIndex index = new PostalCodeIndex(regexes, new PostalCodeIndex.Patterns() {
+            @Override
+            public Pattern get(int index) {
+                return patterns[index];
+            }
+        }, true);
+
+        assertTrue(toCountries(index.find("\u0661\u0662\u0663\u0664\u0665")).contains("DE"));
+        for (String value : values()) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < patterns.length; i++) {
+                if (patterns[i] != null && patterns[i].matcher(value).matches()) {
+                    expected.add(countryCode(i));
+                }
+            }
+            assertEquals(value, expected, toCountries(index.find(value)));
+        }
+    }
+
+    @Test
+    public void findCountries_sharedDigitFormat() {
+        List<String> countries = PostalCodeValidator.findCountries("12345");
+        assertTrue(countries.contains("DE"));
+        assertTrue(countries.contains("US"));
+        assertTrue(countries.contains("LT"));
+        assertTrue(PostalCodeValidator.findCountries("97133").contains("BL"));
+        assertFalse(PostalCodeValidator.findCountries("97133").contains("MF"));
+        assertEquals(Arrays.asList("GB"), PostalCodeValidator.findCountries("SW1A 1AA"));
+    }
+
+    private static List<String> values() {
+        Random random = new Random(13);
+        List<String> values = new ArrayList<>(Arrays.asList(SAMPLES));
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder value = new StringBuilder(SAMPLES[random.nextInt(SAMPLES.length)]);
+            int position = random.nextInt(value.length() + 1);
+            char c = MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+            if (random.nextBoolean() || value.length() == position) {
+                value.insert(position, c);
+            } else {
+                value.setCharAt(position, c);
+            }
+            values.add(value.toString());
+        }
+        return values;
+    }
+
+    private static List<String> toCountries(long[] countries) {
+        List<String> countryCodes = new ArrayList<>();
+        for (int i = 0; i < countries.length * 64; i++) {
+            if ((countries[i >>> 6] & 1L << i) != 0) {
+                countryCodes.add(countryCode(i));
+            }
+        }
+        return countryCodes;
+    }
+
+    private static String countryCode(int index) {
+        return new String(new char[]{(char) ('A' + index / LETTER_COUNT), (char) ('A' + index % LETTER_COUNT)});
+    }
+
+    private static List<String> naiveFindCountries(String value) {
+        List<String> countries = new ArrayList<>();
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                String countryCode = new String(new char[]{first, second});
+                if (PostalCodeValidator.validate(countryCode, value) == PostalCodeValidator.Result.VALID) {
+                    countries.add(countryCode);
+                }
+            }
+        }
+        return countries;
+    }
+}
@@ -0,0 +1,122 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PostalCodeValidatorTest {
+    @Test
+    public void validate_checksPatternOfCountry() {
+        assertEquals(PostalCodeValidator.Result.VALID, PostalCodeValidator.validate("LT", "LT-12345"));
+        assertEquals(PostalCodeValidator.Result.VALID, PostalCodeValidator.validate("LT", "12345"));
+        assertEquals(PostalCodeValidator.Result.INVALID, PostalCodeValidator.validate("LT", "1234"));
+        assertEquals(PostalCodeValidator.Result.INVALID, PostalCodeValidator.validate("LT", ""));
+    }
+
+    @Test
+    public void lowercaseCountryCode_isTheSameCountry() {
+        assertEquals(PostalCodeValidator.Result.VALID, PostalCodeValidator.validate("lt", "12345"));
+        assertEquals(PostalCodeValidator.Result.INVALID, PostalCodeValidator.validate("lT", "1234"));
+        assertSame(PostalCodeValidator.getPattern("LT"), PostalCodeValidator.getPattern("lt"));
+        assertTrue(PostalCodeValidator.isKnownCountry("gb"));
+        assertTrue(PostalCodeValidator.isPostalCodeRequired("Gb"));
+    }
+
+    @Test
+    public void countryWithoutPostalCodes_acceptsAnyValue() {
+        for (String countryCode : new String[]{"AO", "AW", "ao"}) {
+            assertEquals(PostalCodeValidator.Result.NOT_REQUIRED, PostalCodeValidator.validate(countryCode, ""));
+            assertEquals(PostalCodeValidator.Result.NOT_REQUIRED, PostalCodeValidator.validate(countryCode, "anything"));
+            assertTrue(PostalCodeValidator.isKnownCountry(countryCode));
+            assertFalse(PostalCodeValidator.isPostalCodeRequired(countryCode));
+            assertNull(PostalCodeValidator.getPattern(countryCode));
+        }
+    }
+
+    @Test
+    public void unknownCountry_isReported() {
+        for (String countryCode : new String[]{"ZZ", null, "LTU", "", "L", "1T", "L\u0130"}) {
+            assertEquals(PostalCodeValidator.Result.UNKNOWN_COUNTRY, PostalCodeValidator.validate(countryCode, "12345"));
+            assertFalse(PostalCodeValidator.isKnownCountry(countryCode));
+            assertFalse(PostalCodeValidator.isPostalCodeRequired(countryCode));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getPattern_throwsForUnknownCountry() {
+        PostalCodeValidator.getPattern("ZZ");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getPattern_throwsForNullCountry() {
+        PostalCodeValidator.getPattern(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getPattern_throwsForThreeLetterCode() {
+        PostalCodeValidator.getPattern("LTU");
+    }
+
+    @Test
+    public void racingThreads_compileEveryPatternOnce() throws InterruptedException {
+        final List<String> countryCodes = new ArrayList<>();
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                String countryCode = new String(new char[]{first, second});
+                if (PostalCodeValidator.isPostalCodeRequired(countryCode)) {
+                    countryCodes.add(countryCode);
+                }
+            }
+        }
+        int threadCount = 8;
+        final AtomicReferenceArray<Pattern> firstPatterns = new AtomicReferenceArray<>(countryCodes.size());
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final Random random = new Random(t);
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        List<Integer> order = new ArrayList<>();
+                        for (int i = 0; i < countryCodes.size(); i++) {
+                            order.add(i);
+                        }
+                        Collections.shuffle(order, random);
+                        start.await();
+                        for (int i : order) {
+                            Pattern pattern = PostalCodeValidator.getPattern(countryCodes.get(i));
+                            if (!firstPatterns.compareAndSet(i, null, pattern)) {
+                                assertSame(firstPatterns.get(i), pattern);
+                            }
+                        }
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Collections.<Throwable>emptyList(), errors);
+        // patterns compiled by other tests are counted too, but none of them twice
+        assertTrue(PostalCodeValidator.getCompileCount() <= countryCodes.size());
+    }
+}
@@ -0,0 +1,94 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class RegexCacheTest {
+    @Before
+    public void setUp() {
+        RegexCache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        RegexCache.setMaxSize(RegexCache.DEFAULT_MAX_SIZE);
+        RegexCache.clear();
+    }
+
+    @Test
+    public void get_compilesRegexOnce() {
+        Pattern pattern = RegexCache.get("[a-z]+");
+
+        assertSame(pattern, RegexCache.get("[a-z]+"));
+        assertSame(pattern, RegexCache.get(new String("[a-z]+")));
+        assertEquals("[a-z]+", pattern.pattern());
+        assertEquals(1, RegexCache.size());
+        assertEquals(1, RegexCache.getMissCount());
+        assertEquals(2, RegexCache.getHitCount());
+        assertEquals(0, RegexCache.getEvictionCount());
+    }
+
+    @Test
+    public void leastRecentlyUsed_isEvictedFirst() {
+        RegexCache.setMaxSize(2);
+        Pattern a = RegexCache.get("a");
+        RegexCache.get("b");
+        // a becomes the most recently used
+        RegexCache.get("a");
+        RegexCache.get("c");
+
+        assertEquals(2, RegexCache.size());
+        assertEquals(1, RegexCache.getEvictionCount());
+        assertSame(a, RegexCache.get("a"));
+        assertEquals(3, RegexCache.getMissCount());
+
+        // b was evicted and is compiled again, which evicts c
+        RegexCache.get("b");
+        assertEquals(4, RegexCache.getMissCount());
+        assertEquals(2, RegexCache.getEvictionCount());
+        assertSame(a, RegexCache.get("a"));
+        assertEquals(3, RegexCache.getHitCount());
+    }
+
+    @Test
+    public void setMaxSize_evictsLeastRecentlyUsed() {
+        Pattern a = RegexCache.get("a");
+        Pattern b = RegexCache.get("b");
+        Pattern c = RegexCache.get("c");
+        RegexCache.get("a");
+
+        RegexCache.setMaxSize(2);
+        assertEquals(2, RegexCache.getMaxSize());
+        assertEquals(2, RegexCache.size());
+        assertEquals(1, RegexCache.getEvictionCount());
+        assertSame(c, RegexCache.get("c"));
+        assertSame(a, RegexCache.get("a"));
+        assertNotSame(b, RegexCache.get("b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxSize_throwsForZero() {
+        RegexCache.setMaxSize(0);
+    }
+
+    @Test
+    public void clear_resetsCounters() {
+        RegexCache.setMaxSize(1);
+        RegexCache.get("a");
+        RegexCache.get("a");
+        RegexCache.get("b");
+
+        RegexCache.clear();
+        assertEquals(0, RegexCache.size());
+        assertEquals(0, RegexCache.getHitCount());
+        assertEquals(0, RegexCache.getMissCount());
+        assertEquals(0, RegexCache.getEvictionCount());
+    }
+}
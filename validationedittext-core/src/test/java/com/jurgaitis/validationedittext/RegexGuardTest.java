@@ -0,0 +1,57 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RegexGuardTest {
+    // polynomial backtracking, which takes minutes on the evil input
+    private static final Pattern CATASTROPHIC = Pattern.compile("(.*a){12}x");
+    private static final String EVIL_INPUT = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+    @Test
+    public void accessBudget_abortsCatastrophicBacktracking() {
+        RegexGuard guard = new RegexGuard(100000, 0);
+
+        assertEquals(RegexGuard.Result.TIMED_OUT, guard.matches(CATASTROPHIC, EVIL_INPUT));
+        assertEquals(RegexGuard.Result.MATCHED, guard.matches(CATASTROPHIC, "aaaaaaaaaaaax"));
+        assertEquals(RegexGuard.Result.NOT_MATCHED, guard.find(CATASTROPHIC, "ccc"));
+        assertEquals(3, guard.getCheckCount());
+        assertEquals(1, guard.getTimeoutCount());
+    }
+
+    @Test
+    public void deadline_abortsCatastrophicBacktracking() {
+        RegexGuard guard = new RegexGuard(0, 50);
+
+        long start = System.nanoTime();
+        assertEquals(RegexGuard.Result.TIMED_OUT, guard.matches(CATASTROPHIC, EVIL_INPUT));
+        assertTrue(System.nanoTime() - start < 5000000000L);
+        assertEquals(1, guard.getTimeoutCount());
+    }
+
+    @Test
+    public void plan_reportsTimeout() {
+        RegexGuard guard = new RegexGuard(100000, 0);
+        ValidationPlan plan = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.ONLY_CUSTOM_REGEX))
+                .setOnlyCustomPattern(CATASTROPHIC)
+                .setRegexGuard(guard)
+                .build();
+        ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+
+        assertEquals(ValidationRule.ONLY_CUSTOM_REGEX, evaluator.validate(EVIL_INPUT));
+        assertTrue(evaluator.isTimedOut());
+
+        assertEquals(null, evaluator.validate("aaaaaaaaaaaax"));
+        assertFalse(evaluator.isTimedOut());
+
+        assertEquals(ValidationRule.ONLY_CUSTOM_REGEX, evaluator.validate("abc"));
+        assertFalse(evaluator.isTimedOut());
+        assertEquals(1, guard.getTimeoutCount());
+    }
+}
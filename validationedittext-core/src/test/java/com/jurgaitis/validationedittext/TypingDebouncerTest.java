@@ -0,0 +1,94 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TypingDebouncerTest {
+    private static final long DELAY = 1200;
+
+    private FakeLooper looper;
+    private int actionCount;
+    private TypingDebouncer debouncer;
+
+    @Before
+    public void setUp() {
+        looper = new FakeLooper();
+        debouncer = new TypingDebouncer(looper, looper, DELAY, new Runnable() {
+            @Override
+            public void run() {
+                actionCount++;
+            }
+        });
+    }
+
+    @Test
+    public void fastTyping_postsSingleCallback() {
+        for (int i = 0; i < 10; i++) {
+            debouncer.onTextChanged();
+            looper.advance(100);
+        }
+
+        assertEquals(1, debouncer.getScheduleCount());
+        assertEquals(0, looper.getRemoveCount());
+        assertEquals(0, actionCount);
+    }
+
+    @Test
+    public void stoppedTyping_runsActionOnceAfterDelayFromLastEdit() {
+        for (int i = 0; i < 10; i++) {
+            debouncer.onTextChanged();
+            looper.advance(100);
+        }
+        // last edit at 900
+        looper.advance(DELAY - 101);
+        assertEquals(0, actionCount);
+
+        looper.advance(1);
+        assertEquals(1, actionCount);
+        assertFalse(debouncer.isPending());
+
+        looper.advance(10 * DELAY);
+        assertEquals(1, actionCount);
+        // first callback at 1200 was rescheduled once to 2100
+        assertEquals(2, debouncer.getScheduleCount());
+    }
+
+    @Test
+    public void typingAfterAction_schedulesAgain() {
+        debouncer.onTextChanged();
+        looper.advance(DELAY);
+        assertEquals(1, actionCount);
+
+        debouncer.onTextChanged();
+        assertTrue(debouncer.isPending());
+        looper.advance(DELAY);
+        assertEquals(2, actionCount);
+    }
+
+    @Test
+    public void cancel_removesPendingCallback() {
+        debouncer.onTextChanged();
+        debouncer.cancel();
+        looper.advance(10 * DELAY);
+
+        assertEquals(0, actionCount);
+        assertEquals(1, looper.getRemoveCount());
+        assertFalse(debouncer.isPending());
+    }
+
+    @Test
+    public void shorterDelay_takesEffectImmediately() {
+        debouncer.onTextChanged();
+        debouncer.setDelay(300);
+        looper.advance(300);
+
+        assertEquals(1, actionCount);
+    }
+}
@@ -0,0 +1,58 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ValidationConfigTest {
+    private static final int RULES = ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.MIN_LENGTH,
+            ValidationRule.VALID_POSTAL_CODE, ValidationRule.ONLY_CUSTOM_REGEX);
+
+    @Test
+    public void of_internsEqualConfigs() {
+        ValidationConfig first = ValidationConfig.of(RULES, 5, 10, "LT", "[A-Z0-9-]+");
+        ValidationConfig second = ValidationConfig.of(RULES, 5, 10, new String("LT"), new String("[A-Z0-9-]+"));
+
+        assertSame(first, second);
+        assertSame(first.getPlan(), second.getPlan());
+    }
+
+    @Test
+    public void getPlan_usesConfigSettings() {
+        ValidationPlan plan = ValidationConfig.of(RULES, 5, 10, "LT", "[A-Z0-9-]+").getPlan();
+
+        assertEquals(RULES, plan.getRules());
+        assertEquals(ValidationRule.MIN_LENGTH, plan.validate("LT"));
+        assertEquals(ValidationRule.VALID_POSTAL_CODE, plan.validate("LT-123"));
+        assertNull(plan.validate("LT-12345"));
+        assertEquals(5, plan.getResult(ValidationRule.MIN_LENGTH).getLimit());
+    }
+
+    @Test
+    public void of_emptyRegexIsNoRegex() {
+        ValidationConfig config = ValidationConfig.of(RULES, 3, 32, null, "");
+
+        assertSame(ValidationConfig.of(RULES, 3, 32, null, null), config);
+        assertEquals(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.MIN_LENGTH),
+                config.getPlan().getRules());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_unknownCountryThrows() {
+        ValidationConfig.of(RULES, 3, 32, "ZZ", null);
+    }
+
+    @Test
+    public void applyTo_keepsOtherBuilderSettings() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        ValidationPlan.Builder builder = new ValidationPlan.Builder().setMetrics(metrics);
+
+        ValidationPlan plan = ValidationConfig.of(RULES, 4, 8, null, null).applyTo(builder).build();
+
+        assertSame(metrics, plan.getMetrics());
+        assertEquals(8, builder.getMaxLength());
+        assertEquals(4, builder.getMinLength());
+    }
+}
@@ -0,0 +1,91 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationFailuresTest {
+    private final ValidationPlan plan = new ValidationPlan.Builder()
+            .setRules(ValidationRule.mask(ValidationRule.MIN_LENGTH, ValidationRule.AT_LEAST_ONE_LOWERCASE,
+                    ValidationRule.AT_LEAST_ONE_UPPERCASE, ValidationRule.AT_LEAST_ONE_DIGIT,
+                    ValidationRule.AT_LEAST_ONE_SPECIAL_CHARACTER))
+            .setMinLength(8)
+            .build();
+
+    @Test
+    public void evaluateAll_collectsEveryFailedRule() {
+        ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+
+        ValidationFailures failures = evaluator.evaluateAll("abc");
+
+        assertEquals(ValidationRule.mask(ValidationRule.MIN_LENGTH, ValidationRule.AT_LEAST_ONE_UPPERCASE,
+                ValidationRule.AT_LEAST_ONE_DIGIT, ValidationRule.AT_LEAST_ONE_SPECIAL_CHARACTER), failures.getMask());
+        assertEquals(4, failures.size());
+        assertFalse(failures.contains(ValidationRule.AT_LEAST_ONE_LOWERCASE));
+        assertSame(plan.getResult(ValidationRule.MIN_LENGTH), failures.getFirst());
+        assertEquals(Arrays.asList(plan.getResult(ValidationRule.MIN_LENGTH),
+                plan.getResult(ValidationRule.AT_LEAST_ONE_UPPERCASE),
+                plan.getResult(ValidationRule.AT_LEAST_ONE_DIGIT),
+                plan.getResult(ValidationRule.AT_LEAST_ONE_SPECIAL_CHARACTER)), failures.getResults());
+        assertSame(ValidationResult.VALID, failures.getResult(ValidationRule.AT_LEAST_ONE_LOWERCASE));
+        assertNull(failures.getMessage(ValidationRule.AT_LEAST_ONE_LOWERCASE, new CustomValidator()));
+    }
+
+    @Test
+    public void evaluateAll_firstAgreesWithEvaluate() {
+        ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+        for (String text : new String[]{"", "abc", "abcdefgh", "Abcdefgh", "Abcdefg1", "Abcdefg1!", "A1!"}) {
+            assertSame(text, evaluator.evaluate(text), evaluator.evaluateAll(text).getFirst());
+            assertEquals(text, evaluator.evaluateAll(text).getMask(), evaluator.validateAll(text));
+        }
+        assertTrue(evaluator.evaluateAll("Abcdefg1!").isValid());
+    }
+
+    @Test
+    public void evaluateAll_reusesFailuresWhileMaskIsTheSame() {
+        ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+
+        ValidationFailures first = evaluator.evaluateAll("abc");
+        assertSame(first, evaluator.evaluateAll("abcd"));
+        ValidationFailures second = evaluator.evaluateAll("abcD");
+        assertFalse(first == second);
+        assertFalse(second.contains(ValidationRule.AT_LEAST_ONE_UPPERCASE));
+    }
+
+    @Test
+    public void failuresListener_calledOnlyWithFailures() {
+        ValidationListeners listeners = new ValidationListeners(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+        final List<ValidationFailures> calls = new ArrayList<>();
+        ValidationFailuresListener listener = new ValidationFailuresListener() {
+            @Override
+            public void onValidationFailures(ValidationFailures failures) {
+                calls.add(failures);
+            }
+        };
+        listeners.addFailuresListener(listener, ValidationListeners.DispatchMode.MAIN_THREAD_POSTED);
+        assertTrue(listeners.isFailuresNeeded());
+        assertFalse(listeners.isMessageNeeded());
+
+        ValidationFailures failures = plan.newEvaluator().evaluateAll("abc");
+        listeners.dispatch(failures.getFirst(), null);
+        listeners.dispatch(failures.getFirst(), null, failures);
+
+        assertEquals(Arrays.asList(failures), calls);
+        assertTrue(listeners.removeFailuresListener(listener));
+        assertFalse(listeners.isFailuresNeeded());
+    }
+}
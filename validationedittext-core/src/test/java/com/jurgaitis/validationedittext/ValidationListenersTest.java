@@ -0,0 +1,260 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class ValidationListenersTest {
+    private static final ValidationResult FAILED = new ValidationResult(ValidationRule.EMAIL, 0);
+
+    private QueueExecutor mainThread;
+    private ValidationListeners listeners;
+    private List<String> calls;
+
+    @Before
+    public void setUp() {
+        mainThread = new QueueExecutor();
+        listeners = new ValidationListeners(mainThread);
+        calls = new ArrayList<>();
+    }
+
+    @Test
+    public void inline_calledDuringDispatch() {
+        listeners.add(recorder("a"), ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+        listeners.add(recorder("b"), ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+
+        listeners.dispatch(FAILED, "error");
+
+        assertEquals(Arrays.asList("a:false:error", "b:false:error"), calls);
+    }
+
+    @Test
+    public void dispatchToRegistration_callsOnlyThatListener() {
+        listeners.add(recorder("a"), ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+        ValidationListeners.Registration added =
+                listeners.add(recorder("b"), ValidationListeners.DispatchMode.MAIN_THREAD_POSTED);
+
+        listeners.dispatch(added, FAILED, "error", null);
+        assertEquals(0, calls.size());
+        mainThread.runAll();
+        assertEquals(Arrays.asList("b:false:error"), calls);
+    }
+
+    @Test
+    public void resultListener_getsResultWithoutMessage() {
+        final List<ValidationResult> results = new ArrayList<>();
+        ValidationResultListener listener = new ValidationResultListener() {
+            @Override
+            public void onValidationResult(ValidationResult result) {
+                results.add(result);
+            }
+        };
+        listeners.addResultListener(listener, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+        assertFalse(listeners.isMessageNeeded());
+
+        listeners.dispatch(FAILED, null);
+        assertEquals(Arrays.asList(FAILED), results);
+
+        EditTextValidationListener recorder = recorder("a");
+        listeners.add(recorder, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+        assertTrue(listeners.isMessageNeeded());
+        listeners.remove(recorder);
+        assertFalse(listeners.isMessageNeeded());
+        assertTrue(listeners.removeResultListener(listener));
+        assertEquals(0, listeners.size());
+    }
+
+    @Test
+    public void listenerOfBothKinds_isRegisteredOncePerKind() {
+        final List<ValidationResult> results = new ArrayList<>();
+        BothListener listener = new BothListener() {
+            @Override
+            public void onValidationResponse(boolean isValid, String message) {
+                calls.add("response:" + message);
+            }
+
+            @Override
+            public void onValidationResult(ValidationResult result) {
+                results.add(result);
+            }
+        };
+        listeners.add(listener, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+        listeners.addResultListener(listener, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+        assertEquals(2, listeners.size());
+
+        listeners.dispatch(FAILED, "error");
+        assertEquals(Arrays.asList("response:error"), calls);
+        assertEquals(Arrays.asList(FAILED), results);
+
+        assertTrue(listeners.removeResultListener(listener));
+        assertFalse(listeners.removeResultListener(listener));
+        assertTrue(listeners.isMessageNeeded());
+        assertEquals(1, listeners.size());
+    }
+
+    @Test
+    public void posted_deliversNewestResponseOnce() {
+        listeners.add(recorder("a"), ValidationListeners.DispatchMode.MAIN_THREAD_POSTED);
+
+        listeners.dispatch(FAILED, "first");
+        listeners.dispatch(ValidationResult.VALID, "second");
+        assertEquals(0, calls.size());
+        assertEquals(1, mainThread.size());
+
+        mainThread.runAll();
+        assertEquals(Arrays.asList("a:true:second"), calls);
+    }
+
+    @Test
+    public void executor_calledOnExecutor() {
+        QueueExecutor background = new QueueExecutor();
+        listeners.add(recorder("a"), background);
+
+        listeners.dispatch(ValidationResult.VALID, "ok");
+        assertEquals(0, mainThread.size());
+
+        background.runAll();
+        assertEquals(Arrays.asList("a:true:ok"), calls);
+    }
+
+    @Test
+    public void removeDuringDispatch_isSafe() {
+        final EditTextValidationListener second = recorder("b");
+        listeners.add(new EditTextValidationListener() {
+            @Override
+            public void onValidationResponse(boolean isValid, String message) {
+                calls.add("a");
+                listeners.remove(this);
+                listeners.remove(second);
+            }
+        }, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+        listeners.add(second, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+
+        listeners.dispatch(ValidationResult.VALID, "ok");
+        listeners.dispatch(ValidationResult.VALID, "ok");
+
+        assertEquals(Arrays.asList("a"), calls);
+        assertEquals(0, listeners.size());
+    }
+
+    @Test
+    public void removedListener_doesNotGetQueuedResponse() {
+        EditTextValidationListener listener = recorder("a");
+        listeners.add(listener, ValidationListeners.DispatchMode.MAIN_THREAD_POSTED);
+
+        listeners.dispatch(ValidationResult.VALID, "ok");
+        listeners.remove(listener);
+        mainThread.runAll();
+
+        assertEquals(0, calls.size());
+    }
+
+    @Test
+    public void steadyStateDispatch_allocatesNothing() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final int[] count = new int[1];
+        EditTextValidationListener counter = new EditTextValidationListener() {
+            @Override
+            public void onValidationResponse(boolean isValid, String message) {
+                count[0]++;
+            }
+        };
+        SingleSlotExecutor slot = new SingleSlotExecutor();
+        listeners.add(counter, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+        listeners.add(new EditTextValidationListener() {
+            @Override
+            public void onValidationResponse(boolean isValid, String message) {
+                count[0]++;
+            }
+        }, slot);
+
+        for (int i = 0; i < 10000; i++) {
+            dispatchAndRun(slot, i);
+        }
+        long threadId = Thread.currentThread().getId();
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        long measurementOverhead = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10000; i++) {
+            dispatchAndRun(slot, i);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue("allocated " + allocated + " bytes", allocated <= measurementOverhead);
+    }
+
+    private void dispatchAndRun(SingleSlotExecutor slot, int i) {
+        listeners.dispatch((i & 1) == 0 ? ValidationResult.VALID : FAILED, "message");
+        slot.runAll();
+    }
+
+    private interface BothListener extends EditTextValidationListener, ValidationResultListener {
+    }
+
+    private EditTextValidationListener recorder(final String name) {
+        return new EditTextValidationListener() {
+            @Override
+            public void onValidationResponse(boolean isValid, String message) {
+                calls.add(name + ":" + isValid + ":" + message);
+            }
+        };
+    }
+
+    private static class QueueExecutor implements Executor {
+        private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(command);
+        }
+
+        int size() {
+            return queue.size();
+        }
+
+        void runAll() {
+            while (!queue.isEmpty()) {
+                queue.poll().run();
+            }
+        }
+    }
+
+    /**
+     * Executor without a growing queue, so the test measures only the dispatch.
+     */
+    private static class SingleSlotExecutor implements Executor {
+        private final Runnable[] slots = new Runnable[8];
+        private int size;
+
+        @Override
+        public void execute(Runnable command) {
+            slots[size++] = command;
+        }
+
+        void runAll() {
+            for (int i = 0; i < size; i++) {
+                Runnable command = slots[i];
+                slots[i] = null;
+                command.run();
+            }
+            size = 0;
+        }
+    }
+}
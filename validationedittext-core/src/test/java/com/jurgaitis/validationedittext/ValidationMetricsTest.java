@@ -0,0 +1,88 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ValidationMetricsTest {
+    @Test
+    public void bucketOf_usesFixedPowerOfFourBuckets() {
+        assertEquals(0, ValidationMetrics.bucketOf(0));
+        assertEquals(0, ValidationMetrics.bucketOf(255));
+        assertEquals(1, ValidationMetrics.bucketOf(256));
+        assertEquals(1, ValidationMetrics.bucketOf(1023));
+        assertEquals(2, ValidationMetrics.bucketOf(1024));
+        assertEquals(ValidationMetrics.BUCKET_COUNT - 1, ValidationMetrics.bucketOf(Long.MAX_VALUE));
+        for (int bucket = 0; bucket < ValidationMetrics.BUCKET_COUNT - 1; bucket++) {
+            long bound = ValidationMetrics.getBucketUpperBoundNanos(bucket);
+            assertEquals(bucket, ValidationMetrics.bucketOf(bound - 1));
+            assertEquals(bucket + 1, ValidationMetrics.bucketOf(bound));
+        }
+    }
+
+    @Test
+    public void evaluate_recordsChecksAndPasses() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        ValidationPlan.Evaluator evaluator = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.MIN_LENGTH,
+                        ValidationRule.AT_LEAST_ONE_DIGIT))
+                .setMinLength(3)
+                .setMetrics(metrics)
+                .build()
+                .newEvaluator();
+
+        assertSame(ValidationResult.VALID, evaluator.evaluate("abc1"));
+        assertEquals(ValidationRule.MIN_LENGTH, evaluator.evaluate("a").getRule());
+        evaluator.validateAll("ab");
+
+        ValidationMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(3, snapshot.getPassCount());
+        assertEquals(2, snapshot.getInvalidPassCount());
+        assertEquals(3, snapshot.getInvocationCount(ValidationRule.NOT_EMPTY));
+        assertEquals(3, snapshot.getInvocationCount(ValidationRule.MIN_LENGTH));
+        assertEquals(2, snapshot.getFailureCount(ValidationRule.MIN_LENGTH));
+        // first failure stops the pass, collect-all does not
+        assertEquals(2, snapshot.getInvocationCount(ValidationRule.AT_LEAST_ONE_DIGIT));
+        assertEquals(1, snapshot.getFailureCount(ValidationRule.AT_LEAST_ONE_DIGIT));
+        assertEquals(3, sum(snapshot.getHistogram(ValidationRule.NOT_EMPTY)));
+        assertEquals(3, sum(snapshot.getPassHistogram()));
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().getPassCount());
+    }
+
+    @Test
+    public void planWithoutMetrics_recordsNothing() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        ValidationPlan.Builder builder = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.AT_LEAST_ONE_DIGIT))
+                .setMetrics(metrics);
+        ValidationPlan measured = builder.build();
+        ValidationPlan unmeasured = builder.setMetrics(null).build();
+        assertNull(unmeasured.getMetrics());
+
+        ValidationPlan.Evaluator evaluator = unmeasured.newEvaluator();
+        evaluator.evaluate("abc1");
+        evaluator.evaluate("abc");
+        evaluator.validateAll("");
+        ValidationMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(0, snapshot.getPassCount());
+        assertEquals(0, snapshot.getInvocationCount(ValidationRule.NOT_EMPTY));
+        assertEquals(0, snapshot.getInvocationCount(ValidationRule.AT_LEAST_ONE_DIGIT));
+
+        // the same metrics still record the plan, which was built with them
+        measured.newEvaluator().evaluate("abc1");
+        assertEquals(1, metrics.snapshot().getPassCount());
+        assertEquals(1, metrics.snapshot().getInvocationCount(ValidationRule.AT_LEAST_ONE_DIGIT));
+    }
+
+    private static long sum(long[] histogram) {
+        long sum = 0;
+        for (long count : histogram) {
+            sum += count;
+        }
+        return sum;
+    }
+}
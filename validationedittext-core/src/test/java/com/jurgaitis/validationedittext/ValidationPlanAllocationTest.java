@@ -0,0 +1,70 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks that a steady-state keystroke does not allocate.
+ */
+public class ValidationPlanAllocationTest {
+    private static final int KEYSTROKES = 10000;
+
+    @Test
+    public void steadyStateKeystroke_allocatesNothing() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        ValidationPlan plan = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.MAX_LENGTH,
+                        ValidationRule.MIN_LENGTH, ValidationRule.AT_LEAST_ONE_LOWERCASE,
+                        ValidationRule.AT_LEAST_ONE_UPPERCASE, ValidationRule.AT_LEAST_ONE_DIGIT,
+                        ValidationRule.AT_LEAST_ONE_SPECIAL_CHARACTER, ValidationRule.ONLY_CUSTOM_REGEX))
+                .setMaxLength(64)
+                .setMinLength(8)
+                .setOnlyCustomPattern(Pattern.compile("[a-zA-Z0-9!]+"))
+                .build();
+        ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+        CharacterClassCounter counter = new CharacterClassCounter();
+        StringBuilder text = new StringBuilder(64).append("Passw0rd!");
+
+        // warm up, first validation creates the reusable matcher
+        for (int i = 0; i < KEYSTROKES; i++) {
+            typeAndDelete(text, counter, evaluator);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        long measurementOverhead = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < KEYSTROKES; i++) {
+            typeAndDelete(text, counter, evaluator);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue("allocated " + allocated + " bytes", allocated <= measurementOverhead);
+    }
+
+    private static void typeAndDelete(StringBuilder text, CharacterClassCounter counter,
+                                      ValidationPlan.Evaluator evaluator) {
+        int length = text.length();
+        counter.beforeTextChanged(text, length, 0, 1);
+        text.append('a');
+        counter.onTextChanged(text, length, 0, 1);
+        assertNull(evaluator.validate(text, counter.summary(text)));
+
+        counter.beforeTextChanged(text, length, 1, 0);
+        text.setLength(length);
+        counter.onTextChanged(text, length, 1, 0);
+        assertNull(evaluator.validate(text, counter.summary(text)));
+    }
+}
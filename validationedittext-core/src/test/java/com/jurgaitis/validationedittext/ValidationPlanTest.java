@@ -0,0 +1,58 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationPlanTest {
+    private static final int RULES = ValidationRule.mask(ValidationRule.EMAIL, ValidationRule.ONLY_DIGITS,
+            ValidationRule.ALL_UPPERCASE, ValidationRule.MIN_LENGTH, ValidationRule.ONLY_CUSTOM_REGEX);
+
+    @Test
+    public void costs_areOrdered() {
+        assertTrue(ValidationPlan.COST_LENGTH < ValidationPlan.COST_CHARACTER_CLASS);
+        assertTrue(ValidationPlan.COST_CHARACTER_CLASS < ValidationPlan.COST_SCAN);
+        assertTrue(ValidationPlan.COST_SCAN < ValidationPlan.COST_REGEX);
+    }
+
+    @Test
+    public void costOrderedPlan_reportsCheapestFailure() {
+        ValidationPlan plan = newBuilder().setCostOrdered(true).build();
+        // length before character class, scan and regex
+        assertEquals(ValidationRule.MIN_LENGTH, plan.validate("a"));
+        // character class before scan and regex, ONLY_DIGITS before ALL_UPPERCASE of the same cost
+        assertEquals(ValidationRule.ONLY_DIGITS, plan.validate("abcd"));
+        // scan before regex
+        assertEquals(ValidationRule.EMAIL, plan.validate("1234"));
+    }
+
+    @Test
+    public void defaultPlan_keepsRuleOrder() {
+        ValidationPlan plan = newBuilder().build();
+        assertEquals(ValidationRule.EMAIL, plan.validate("a"));
+        assertEquals(ValidationRule.EMAIL, plan.validate("abcd"));
+    }
+
+    @Test
+    public void costOrder_doesNotChangeValidity() {
+        ValidationPlan costOrdered = newBuilder().setCostOrdered(true).build();
+        ValidationPlan ruleOrdered = newBuilder().build();
+        String[] values = {"", "a", "abcd", "1234", "12ab", "A@B.LT", "1@2.lt"};
+        for (String value : values) {
+            assertEquals(value, ruleOrdered.validate(value) == null, costOrdered.validate(value) == null);
+        }
+        assertNull(newBuilder().setRules(ValidationRule.mask(ValidationRule.MIN_LENGTH, ValidationRule.ONLY_DIGITS))
+                .setCostOrdered(true).build().validate("1234"));
+    }
+
+    private static ValidationPlan.Builder newBuilder() {
+        return new ValidationPlan.Builder()
+                .setRules(RULES)
+                .setMinLength(3)
+                .setOnlyCustomPattern(Pattern.compile("[a-z]+"));
+    }
+}
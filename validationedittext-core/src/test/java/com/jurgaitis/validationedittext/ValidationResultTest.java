@@ -0,0 +1,67 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationResultTest {
+    private final ValidationPlan plan = new ValidationPlan.Builder()
+            .setRules(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.MAX_LENGTH,
+                    ValidationRule.MIN_LENGTH))
+            .setMaxLength(8)
+            .setMinLength(3)
+            .build();
+
+    @Test
+    public void evaluate_returnsInternedResults() {
+        ValidationPlan.Evaluator evaluator = plan.newEvaluator();
+
+        ValidationResult tooLong = evaluator.evaluate("123456789");
+        assertSame(tooLong, evaluator.evaluate("1234567890"));
+        assertSame(tooLong, plan.getResult(ValidationRule.MAX_LENGTH));
+        assertEquals(ValidationRule.MAX_LENGTH, tooLong.getRule());
+        assertEquals(8, tooLong.getLimit());
+        assertSame(ValidationResult.VALID, evaluator.evaluate("1234"));
+        assertTrue(ValidationResult.VALID.isValid());
+    }
+
+    @Test
+    public void getMessage_usesLimitOfThePlan() {
+        CustomValidator validator = new CustomValidator();
+        validator.setMaxLengthErrorMessage("At most ");
+
+        assertEquals("At most 8", plan.getResult(ValidationRule.MAX_LENGTH).getMessage(validator));
+        assertNull(ValidationResult.VALID.getMessage(validator));
+    }
+
+    @Test
+    public void getMessage_cachedUntilValidatorChanges() {
+        CustomValidator validator = new CustomValidator();
+        ValidationResult tooShort = plan.getResult(ValidationRule.MIN_LENGTH);
+
+        String message = tooShort.getMessage(validator);
+        assertSame(message, tooShort.getMessage(validator));
+
+        validator.setMinLengthErrorMessage("At least ");
+        assertEquals("At least 3", tooShort.getMessage(validator));
+    }
+
+    @Test
+    public void getMessage_cachedPerValidator() {
+        CustomValidator first = new CustomValidator();
+        CustomValidator second = new CustomValidator();
+        second.setMinLengthErrorMessage("Too short, at least ");
+        // limit differs from the validators, so the message is built from the limit
+        ValidationResult tooShort = new ValidationResult(ValidationRule.MIN_LENGTH, 5);
+
+        String message = tooShort.getMessage(first);
+        String secondMessage = tooShort.getMessage(second);
+        assertEquals("Too short, at least 5", secondMessage);
+        // fields with different validators on a shared plan do not rebuild each other's messages
+        assertSame(message, tooShort.getMessage(first));
+        assertSame(secondMessage, tooShort.getMessage(second));
+    }
+}
@@ -0,0 +1,88 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationRuleTest {
+    @Test
+    public void rules_areInTheOrderOfValidationSettings() {
+        assertEquals(Arrays.asList(
+                ValidationRule.NOT_EMPTY,
+                ValidationRule.EMAIL,
+                ValidationRule.ONLY_LETTERS,
+                ValidationRule.ONLY_LETTERS_WITH_SPACES,
+                ValidationRule.ONLY_LATIN_LETTERS,
+                ValidationRule.ONLY_LATIN_LETTERS_WITH_SPACES,
+                ValidationRule.ALPHANUMERIC,
+                ValidationRule.ONLY_DIGITS,
+                ValidationRule.MAX_LENGTH,
+                ValidationRule.MIN_LENGTH,
+                ValidationRule.ALL_LOWERCASE,
+                ValidationRule.ALL_UPPERCASE,
+                ValidationRule.AT_LEAST_ONE_LOWERCASE,
+                ValidationRule.AT_LEAST_ONE_UPPERCASE,
+                ValidationRule.AT_LEAST_ONE_DIGIT,
+                ValidationRule.AT_LEAST_ONE_SPECIAL_CHARACTER,
+                ValidationRule.AT_LEAST_ONE_LETTER,
+                ValidationRule.VALID_POSTAL_CODE,
+                ValidationRule.ONLY_CUSTOM_REGEX,
+                ValidationRule.AT_LEAST_ONE_CUSTOM_REGEX), Arrays.asList(ValidationRule.values()));
+    }
+
+    @Test
+    public void defaultPlan_reportsFirstFailureInRuleOrder() {
+        ValidationPlan plan = new ValidationPlan.Builder()
+                .setRules(ValidationRule.mask(ValidationRule.AT_LEAST_ONE_DIGIT, ValidationRule.MIN_LENGTH,
+                        ValidationRule.EMAIL))
+                .setMinLength(10)
+                .build();
+        assertEquals(ValidationRule.EMAIL, plan.validate("a"));
+        assertEquals(ValidationRule.MIN_LENGTH, plan.validate("ab@cd.lt"));
+        assertEquals(ValidationRule.AT_LEAST_ONE_DIGIT, plan.validate("abcd@cd.lt"));
+        assertNull(plan.validate("abc1@cd.lt"));
+    }
+
+    @Test
+    public void mask_isUniqueBitOfRule() {
+        int all = 0;
+        for (ValidationRule rule : ValidationRule.values()) {
+            assertEquals(1 << rule.ordinal(), rule.mask());
+            assertEquals(0, all & rule.mask());
+            all |= rule.mask();
+            assertTrue(rule.isIn(all));
+        }
+        assertTrue(ValidationRule.values().length < Integer.SIZE);
+        assertFalse(ValidationRule.EMAIL.isIn(ValidationRule.NOT_EMPTY.mask()));
+    }
+
+    @Test
+    public void maskOfRules_combinesBits() {
+        assertEquals(0, ValidationRule.mask(new ValidationRule[0]));
+        assertEquals(0x3, ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.EMAIL));
+        assertEquals(0x3, ValidationRule.mask(ValidationRule.EMAIL, ValidationRule.NOT_EMPTY, ValidationRule.EMAIL));
+    }
+
+    @Test
+    public void maskOfSettings_ignoresUnknownSettings() {
+        assertEquals(0, ValidationRule.mask(new String[0]));
+        assertEquals(ValidationRule.mask(ValidationRule.NOT_EMPTY, ValidationRule.VALID_POSTAL_CODE),
+                ValidationRule.mask("NOT_EMPTY", "VALID_POSTAL_CODE", "UNKNOWN", null, "email"));
+    }
+
+    @Test
+    public void fromSetting_findsRuleOfTheSameName() {
+        for (ValidationRule rule : ValidationRule.values()) {
+            assertEquals(rule, ValidationRule.fromSetting(rule.name()));
+        }
+        assertNull(ValidationRule.fromSetting(null));
+        assertNull(ValidationRule.fromSetting(""));
+        assertNull(ValidationRule.fromSetting("email"));
+        assertNull(ValidationRule.fromSetting("PHONE"));
+    }
+}
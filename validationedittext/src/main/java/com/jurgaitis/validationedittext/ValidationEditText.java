@@ -1,51 +1,278 @@
 package com.jurgaitis.validationedittext;
 
 import android.content.Context;
+import android.content.res.TypedArray;
 import android.graphics.Rect;
 import android.os.Handler;
+import android.os.SystemClock;
 import android.support.v7.widget.AppCompatEditText;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.util.AttributeSet;
+import android.view.Choreographer;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
 
 public class ValidationEditText extends AppCompatEditText {
     /**
      * Response message, when field is valid
      */
     private final String CORRECT_MESSAGE = "Correct";
-    private List<String> activeValidators;
+    static final Clock UPTIME_CLOCK = new Clock() {
+        @Override
+        public long uptimeMillis() {
+            return SystemClock.uptimeMillis();
+        }
+    };
+    private static final ValidationPlan DEFAULT_PLAN = new ValidationPlan.Builder().build();
+    /**
+     * Shared by all fields, until a field changes it, see {@link #ownCustomValidator()}
+     */
+    private static final CustomValidator DEFAULT_CUSTOM_VALIDATOR = new CustomValidator();
     private boolean validateWhenTextChanged = false;
-    private String postalCodeRegex = "";
-    private String onlyCustomRegex = "";
-    private String atLeastOneRegex = "";
-    private EditTextValidationListener editTextResponseListener;
-    private CustomValidator customValidator = new CustomValidator();
+    private ValidationConfig validationConfig;
+    // created on the first plan change, until then the plan is shared
+    private ValidationPlan.Builder validationPlanBuilder;
+    private ValidationPlan validationPlan = DEFAULT_PLAN;
+    private ValidationPlan.Evaluator validationEvaluator = validationPlan.newEvaluator();
+    private final ValidationListeners validationListeners = new ValidationListeners(new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            getEditTextHandler().post(command);
+        }
+    });
+    private boolean notifyEveryValidation = false;
+    private boolean hasLastResponse = false;
+    private ValidationResult lastResult;
+    private boolean lastTimedOut;
+    private ValidationFailures lastFailures;
+    private String lastResponseMessage;
+    // listeners, which did not get the current response yet
+    private List<ValidationListeners.Registration> addedRegistrations;
+    private CustomValidator customValidator = DEFAULT_CUSTOM_VALIDATOR;
+    private EmailValidator.Strictness emailStrictness = EmailValidator.Strictness.COMPATIBLE;
     private long delayWhenStopsTyping = 1200; // 1,2 seconds after user stops typing
-    private long lastTimeWhenTextChanged = 0;
-    private Handler editTextHandler = new Handler();
+    private TypingDebouncer typingDebouncer;
+    private boolean frameValidation = false;
+    private FrameValidationScheduler frameValidationScheduler;
+    // start time of the frame, whose validation is posted after its traversal
+    private long frameTimeNanos;
+    private Handler editTextHandler;
     private boolean showErrorMessageWhenStoppedTyping = true;
+    private ValidationGroup validationGroup;
+    private FieldGroup.Field groupField;
+    private boolean incrementalValidation = false;
+    private CharacterClassCounter characterClassCounter = new CharacterClassCounter();
+    private PasswordStrengthMeter passwordStrengthMeter;
+    private PasswordStrengthListener passwordStrengthListener;
+    private boolean asyncValidation = false;
+    private AsyncValidationEngine asyncValidationEngine;
+    private TypingDebouncer.Scheduler handlerScheduler;
+    private final AsyncValidationEngine.Callback showErrorMessageCallback = new AsyncValidationEngine.Callback() {
+        @Override
+        public void onValidationResult(ValidationResult result, ValidationFailures failures, boolean timedOut,
+                                       long latencyMillis) {
+            sendValidationResponse(true, result, timedOut, failures);
+        }
+    };
+    private final AsyncValidationEngine.Callback hideErrorMessageCallback = new AsyncValidationEngine.Callback() {
+        @Override
+        public void onValidationResult(ValidationResult result, ValidationFailures failures, boolean timedOut,
+                                       long latencyMillis) {
+            sendValidationResponse(false, result, timedOut, failures);
+        }
+    };
 
     public ValidationEditText(Context context) {
         super(context);
+        init();
     }
 
     public ValidationEditText(Context context, AttributeSet attrs) {
         super(context, attrs);
+        init();
+        readAttributes(context, attrs, 0);
     }
 
     public ValidationEditText(Context context, AttributeSet attrs, int defStyleAttr) {
         super(context, attrs, defStyleAttr);
+        init();
+        readAttributes(context, attrs, defStyleAttr);
     }
 
     /**
-     * Adds validation listener.
+     * Reads validation attributes into an interned config, so fields with the same attributes share
+     * the config and its plan.
+     */
+    private void readAttributes(Context context, AttributeSet attrs, int defStyleAttr) {
+        if (attrs == null) {
+            return;
+        }
+        TypedArray array = context.obtainStyledAttributes(attrs, R.styleable.ValidationEditText, defStyleAttr, 0);
+        try {
+            int rules = array.getInt(R.styleable.ValidationEditText_vet_validators, 0);
+            if (rules == 0 && !array.hasValue(R.styleable.ValidationEditText_vet_minLength)
+                    && !array.hasValue(R.styleable.ValidationEditText_vet_maxLength)
+                    && !array.hasValue(R.styleable.ValidationEditText_vet_postalCountry)
+                    && !array.hasValue(R.styleable.ValidationEditText_vet_customRegex)) {
+                return;
+            }
+            setValidationConfig(ValidationConfig.of(rules,
+                    array.getInt(R.styleable.ValidationEditText_vet_minLength, ValidationConfig.DEFAULT_MIN_LENGTH),
+                    array.getInt(R.styleable.ValidationEditText_vet_maxLength, ValidationConfig.DEFAULT_MAX_LENGTH),
+                    array.getString(R.styleable.ValidationEditText_vet_postalCountry),
+                    array.getString(R.styleable.ValidationEditText_vet_customRegex)));
+        } finally {
+            array.recycle();
+        }
+    }
+
+    private void init() {
+        addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+                if (incrementalValidation) {
+                    characterClassCounter.beforeTextChanged(s, start, count, after);
+                }
+                if (passwordStrengthMeter != null) {
+                    passwordStrengthMeter.beforeTextChanged(s, start, count, after);
+                }
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+            }
+        });
+    }
+
+    /**
+     * Adds validation listener, which is called on the main thread during validation.
      *
      * @param editTextResponseListener
      */
     public void addValidationListener(EditTextValidationListener editTextResponseListener) {
-        this.editTextResponseListener = editTextResponseListener;
+        addValidationListener(editTextResponseListener, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+    }
+
+    /**
+     * Adds validation listener.
+     *
+     * @param editTextResponseListener listener
+     * @param dispatchMode             MAIN_THREAD_INLINE - called during validation,
+     *                                 MAIN_THREAD_POSTED - posted to the main thread
+     */
+    public void addValidationListener(EditTextValidationListener editTextResponseListener,
+                                      ValidationListeners.DispatchMode dispatchMode) {
+        onValidationListenerAdded(validationListeners.add(editTextResponseListener, dispatchMode));
+    }
+
+    /**
+     * Adds validation listener, which is called on the executor, e.g. for expensive work.
+     *
+     * @param editTextResponseListener listener
+     * @param executor                 executor, which calls the listener
+     */
+    public void addValidationListener(EditTextValidationListener editTextResponseListener, Executor executor) {
+        onValidationListenerAdded(validationListeners.add(editTextResponseListener, executor));
+    }
+
+    /**
+     * Removes validation listener. Can be called from a listener.
+     *
+     * @param editTextResponseListener listener
+     */
+    public void removeValidationListener(EditTextValidationListener editTextResponseListener) {
+        validationListeners.remove(editTextResponseListener);
+    }
+
+    /**
+     * Adds validation result listener, which is called on the main thread during validation.
+     * Result listeners get the typed result and the error message is not built for them.
+     *
+     * @param resultListener listener
+     */
+    public void addValidationResultListener(ValidationResultListener resultListener) {
+        addValidationResultListener(resultListener, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+    }
+
+    /**
+     * Adds validation result listener with the dispatch mode.
+     *
+     * @param resultListener listener
+     * @param dispatchMode   MAIN_THREAD_INLINE or MAIN_THREAD_POSTED
+     */
+    public void addValidationResultListener(ValidationResultListener resultListener,
+                                            ValidationListeners.DispatchMode dispatchMode) {
+        onValidationListenerAdded(validationListeners.addResultListener(resultListener, dispatchMode));
+    }
+
+    /**
+     * Adds validation result listener, which is called on the executor.
+     *
+     * @param resultListener listener
+     * @param executor       executor, which calls the listener
+     */
+    public void addValidationResultListener(ValidationResultListener resultListener, Executor executor) {
+        onValidationListenerAdded(validationListeners.addResultListener(resultListener, executor));
+    }
+
+    /**
+     * Removes validation result listener. Can be called from a listener.
+     *
+     * @param resultListener listener
+     */
+    public void removeValidationResultListener(ValidationResultListener resultListener) {
+        validationListeners.removeResultListener(resultListener);
+    }
+
+    /**
+     * Adds validation failures listener, which is called on the main thread during validation with all
+     * failed rules. While failures listeners are added, every rule is checked in one pass, also by
+     * the asynchronous validation. Failures of a timed out validation hold only the timed out rule.
+     *
+     * @param failuresListener listener
+     */
+    public void addValidationFailuresListener(ValidationFailuresListener failuresListener) {
+        addValidationFailuresListener(failuresListener, ValidationListeners.DispatchMode.MAIN_THREAD_INLINE);
+    }
+
+    /**
+     * Adds validation failures listener with the dispatch mode.
+     *
+     * @param failuresListener listener
+     * @param dispatchMode     MAIN_THREAD_INLINE or MAIN_THREAD_POSTED
+     */
+    public void addValidationFailuresListener(ValidationFailuresListener failuresListener,
+                                              ValidationListeners.DispatchMode dispatchMode) {
+        onValidationListenerAdded(validationListeners.addFailuresListener(failuresListener, dispatchMode));
+    }
+
+    /**
+     * Removes validation failures listener. Can be called from a listener.
+     *
+     * @param failuresListener listener
+     */
+    public void removeValidationFailuresListener(ValidationFailuresListener failuresListener) {
+        validationListeners.removeFailuresListener(failuresListener);
+    }
+
+    /**
+     * New listener gets the current response with the next validation, which is run now. Other listeners
+     * are notified only, if the response changed.
+     */
+    private void onValidationListenerAdded(ValidationListeners.Registration registration) {
         validateWhenTextChanged = true;
+        if (addedRegistrations == null) {
+            addedRegistrations = new ArrayList<>();
+        }
+        addedRegistrations.add(registration);
         validate(false);
     }
 
@@ -57,7 +284,21 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public ValidationEditText setValidators(String... validators) {
         validateWhenTextChanged = true;
-        activeValidators = Arrays.asList(validators);
+        planBuilder().setRules(ValidationRule.mask(validators));
+        rebuildValidationPlan();
+        return this;
+    }
+
+    /**
+     * Sets the rules list to check for validation.
+     *
+     * @param rules validation rules
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setValidationRules(ValidationRule... rules) {
+        validateWhenTextChanged = true;
+        planBuilder().setRules(ValidationRule.mask(rules));
+        rebuildValidationPlan();
         return this;
     }
 
@@ -68,7 +309,11 @@ public class ValidationEditText extends AppCompatEditText {
      * @return current ValidationEditText
      */
     public ValidationEditText setMaxLength(int maxLength) {
-        this.customValidator.setMaxLength(maxLength);
+        if (customValidator != DEFAULT_CUSTOM_VALIDATOR) {
+            customValidator.setMaxLength(maxLength);
+        }
+        planBuilder().setMaxLength(maxLength);
+        rebuildValidationPlan();
         return this;
     }
 
@@ -79,7 +324,11 @@ public class ValidationEditText extends AppCompatEditText {
      * @return current ValidationEditText
      */
     public ValidationEditText setMinLength(int minLength) {
-        this.customValidator.setMinLength(minLength);
+        if (customValidator != DEFAULT_CUSTOM_VALIDATOR) {
+            customValidator.setMinLength(minLength);
+        }
+        planBuilder().setMinLength(minLength);
+        rebuildValidationPlan();
         return this;
     }
 
@@ -90,7 +339,34 @@ public class ValidationEditText extends AppCompatEditText {
      * @return current ValidationEditText
      */
     public ValidationEditText setPostalCodeRegex(String postalCodeRegex) {
-        this.postalCodeRegex = postalCodeRegex;
+        planBuilder().setPostalCodePattern(compileRegex(postalCodeRegex));
+        rebuildValidationPlan();
+        return this;
+    }
+
+    /**
+     * Sets precompiled postal code pattern.
+     *
+     * @param postalCodePattern postal code pattern, null disables postal code validation
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setPostalCodeRegex(Pattern postalCodePattern) {
+        planBuilder().setPostalCodePattern(postalCodePattern);
+        rebuildValidationPlan();
+        return this;
+    }
+
+    /**
+     * Sets postal code country. Pattern of the country is compiled once and shared by all fields.
+     * Postal code validation is disabled, when the country does not use postal codes.
+     *
+     * @param countryCode ISO 3166-1 alpha-2 country code, e.g. "LT"
+     * @return current ValidationEditText
+     * @throws IllegalArgumentException if the country code is not known
+     */
+    public ValidationEditText setPostalCountry(String countryCode) {
+        planBuilder().setPostalCountry(countryCode);
+        rebuildValidationPlan();
         return this;
     }
 
@@ -101,12 +377,165 @@ public class ValidationEditText extends AppCompatEditText {
      * @return current ValidationEditText
      */
     public ValidationEditText setCustomValidator(CustomValidator customValidator) {
-        customValidator.setMaxLength(this.customValidator.getMaxLength());
-        customValidator.setMinLength(this.customValidator.getMinLength());
+        customValidator.setMaxLength(getPlanMaxLength());
+        customValidator.setMinLength(getPlanMinLength());
         this.customValidator = customValidator;
         return this;
     }
 
+    /**
+     * Sets validation config, for example one, which is also used by other fields. While the plan
+     * is not changed by other setters, the field shares the plan of the config.
+     *
+     * @param validationConfig validation config
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setValidationConfig(ValidationConfig validationConfig) {
+        this.validationConfig = validationConfig;
+        if (validationConfig.getRules() != 0) {
+            validateWhenTextChanged = true;
+        }
+        if (customValidator != DEFAULT_CUSTOM_VALIDATOR) {
+            customValidator.setMaxLength(validationConfig.getMaxLength());
+            customValidator.setMinLength(validationConfig.getMinLength());
+        }
+        if (validationPlanBuilder != null) {
+            validationConfig.applyTo(validationPlanBuilder);
+            rebuildValidationPlan();
+        } else {
+            setValidationPlan(validationConfig.getPlan());
+        }
+        return this;
+    }
+
+    /**
+     * Gets the plan builder. It is created on the first plan change from the config, if it is set.
+     */
+    private ValidationPlan.Builder planBuilder() {
+        if (validationPlanBuilder == null) {
+            validationPlanBuilder = validationConfig != null
+                    ? validationConfig.newPlanBuilder() : new ValidationPlan.Builder();
+        }
+        return validationPlanBuilder;
+    }
+
+    private int getPlanMaxLength() {
+        if (validationPlanBuilder != null) {
+            return validationPlanBuilder.getMaxLength();
+        }
+        return validationConfig != null ? validationConfig.getMaxLength() : ValidationConfig.DEFAULT_MAX_LENGTH;
+    }
+
+    private int getPlanMinLength() {
+        if (validationPlanBuilder != null) {
+            return validationPlanBuilder.getMinLength();
+        }
+        return validationConfig != null ? validationConfig.getMinLength() : ValidationConfig.DEFAULT_MIN_LENGTH;
+    }
+
+    /**
+     * Gets the custom validator, which can be changed. The shared default validator is copied first.
+     */
+    private CustomValidator ownCustomValidator() {
+        if (customValidator == DEFAULT_CUSTOM_VALIDATOR) {
+            customValidator = new CustomValidator();
+            customValidator.setMaxLength(getPlanMaxLength());
+            customValidator.setMinLength(getPlanMinLength());
+        }
+        return customValidator;
+    }
+
+    /**
+     * Sets how strictly email addresses are checked.
+     *
+     * @param emailStrictness COMPATIBLE - same as android.util.Patterns.EMAIL_ADDRESS (default),
+     *                        RFC_5321 - RFC 5321 dot-atom addresses
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setEmailStrictness(EmailValidator.Strictness emailStrictness) {
+        this.emailStrictness = emailStrictness;
+        planBuilder().setEmailStrictness(emailStrictness);
+        rebuildValidationPlan();
+        return this;
+    }
+
+    /**
+     * Sets guard of the postal code and custom regex checks, so a catastrophic backtracking pattern
+     * cannot freeze the UI. When the timeout passes, field is invalid with the timed out error message.
+     * <p>
+     * On Android the matcher copies the text, so the character access budget of the guard is not
+     * enforced and only the timeout protects the main thread. The guard must have a timeout: the field
+     * is then always validated asynchronously, the timed out result is delivered, when the timeout
+     * passes, and the runaway match is left on a guarded background thread, see
+     * {@link AsyncValidationEngine#guardedExecutor()}.
+     *
+     * @param regexGuard regex guard with a timeout, null disables guarding (default)
+     * @return current ValidationEditText
+     * @throws IllegalArgumentException if the guard has no timeout
+     */
+    public ValidationEditText setRegexGuard(RegexGuard regexGuard) {
+        if (regexGuard != null && regexGuard.getTimeoutMillis() == 0) {
+            throw new IllegalArgumentException("Regex guard without a timeout is not enforced on Android");
+        }
+        planBuilder().setRegexGuard(regexGuard);
+        rebuildValidationPlan();
+        return this;
+    }
+
+    /**
+     * Sets validation metrics, which record every rule check, validation pass and listener dispatch
+     * of this field. One instance can be shared by many fields.
+     *
+     * @param validationMetrics metrics, null disables instrumentation (default)
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setValidationMetrics(ValidationMetrics validationMetrics) {
+        planBuilder().setMetrics(validationMetrics);
+        rebuildValidationPlan();
+        return this;
+    }
+
+    /**
+     * Sets when the validation listener is notified.
+     *
+     * @param notifyEveryValidation false - only when validity or response message changes (default),
+     *                              true - on every validation, e.g. every keystroke
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setNotifyEveryValidation(boolean notifyEveryValidation) {
+        this.notifyEveryValidation = notifyEveryValidation;
+        return this;
+    }
+
+    /**
+     * Sets validation checks order.
+     *
+     * @param costOrderedValidation false - check rules in ValidationSettings order (default),
+     *                              true - check length and empty rules first and regex rules last
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setCostOrderedValidation(boolean costOrderedValidation) {
+        planBuilder().setCostOrdered(costOrderedValidation);
+        rebuildValidationPlan();
+        return this;
+    }
+
+    private void rebuildValidationPlan() {
+        setValidationPlan(planBuilder().build());
+    }
+
+    private void setValidationPlan(ValidationPlan validationPlan) {
+        this.validationPlan = validationPlan;
+        validationEvaluator = validationPlan.newEvaluator();
+        if (asyncValidationEngine != null) {
+            // result of the text submitted with the previous plan is stale
+            asyncValidationEngine.cancel();
+        }
+        if (validationGroup != null) {
+            validationGroup.onFieldValidated(this, isCurrentTextValid());
+        }
+    }
+
     /**
      * Sets custom validation regex.
      *
@@ -114,7 +543,20 @@ public class ValidationEditText extends AppCompatEditText {
      * @return current ValidationEditText
      */
     public ValidationEditText setOnlyCustomRegex(String onlyCustomRegex) {
-        this.onlyCustomRegex = onlyCustomRegex;
+        planBuilder().setOnlyCustomPattern(compileRegex(onlyCustomRegex));
+        rebuildValidationPlan();
+        return this;
+    }
+
+    /**
+     * Sets precompiled custom validation pattern.
+     *
+     * @param onlyCustomPattern custom validation pattern, null disables this validation
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setOnlyCustomRegex(Pattern onlyCustomPattern) {
+        planBuilder().setOnlyCustomPattern(onlyCustomPattern);
+        rebuildValidationPlan();
         return this;
     }
 
@@ -125,10 +567,33 @@ public class ValidationEditText extends AppCompatEditText {
      * @return current ValidationEditText
      */
     public ValidationEditText setAtLeastOneRegex(String atLeastOneRegex) {
-        this.atLeastOneRegex = atLeastOneRegex;
+        planBuilder().setAtLeastOnePattern(compileRegex(atLeastOneRegex));
+        rebuildValidationPlan();
+        return this;
+    }
+
+    /**
+     * Sets precompiled custom validation pattern.
+     *
+     * @param atLeastOnePattern custom validation pattern, null disables this validation
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setAtLeastOneRegex(Pattern atLeastOnePattern) {
+        planBuilder().setAtLeastOnePattern(atLeastOnePattern);
+        rebuildValidationPlan();
         return this;
     }
 
+    /**
+     * Compiles regex through RegexCache. Empty regex disables validation, as before.
+     */
+    private static Pattern compileRegex(String regex) {
+        if (regex == null || regex.equals("")) {
+            return null;
+        }
+        return RegexCache.get(regex);
+    }
+
     /**
      * Sets to show or hide error message.
      *
@@ -148,174 +613,405 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public ValidationEditText setDelayWhenStopsTyping(long delayWhenStopsTyping) {
         this.delayWhenStopsTyping = delayWhenStopsTyping;
+        if (typingDebouncer != null) {
+            typingDebouncer.setDelay(delayWhenStopsTyping);
+        }
+        return this;
+    }
+
+    /**
+     * Sets incremental validation. When enabled, character class counters are updated only for the
+     * edited range of the text, so validation on every keystroke does not rescan the whole text.
+     *
+     * @param incrementalValidation true - validate incrementally
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setIncrementalValidation(boolean incrementalValidation) {
+        this.incrementalValidation = incrementalValidation;
+        characterClassCounter.invalidate();
         return this;
     }
 
+    /**
+     * Sets per-frame validation. When enabled, edits only request the next Choreographer frame and
+     * validation runs once per frame, no matter how many edits the frame had. Frame callbacks run in the
+     * animation phase, before layout and draw, so validation is posted from the callback and runs after
+     * the frame is drawn. If the frame is already over budget then, validation is deferred by up to two
+     * frames.
+     *
+     * @param frameValidation true - validate once per frame
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setFrameValidation(boolean frameValidation) {
+        this.frameValidation = frameValidation;
+        if (!frameValidation && frameValidationScheduler != null && frameValidationScheduler.isPending()) {
+            frameValidationScheduler.cancel();
+            validate(false);
+        }
+        return this;
+    }
+
+    /**
+     * Sets frame budget of the per-frame validation, for example 8333333 ns on a 120 Hz display.
+     *
+     * @param frameBudgetNanos frame budget in nanoseconds
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setFrameBudgetNanos(long frameBudgetNanos) {
+        getFrameValidationScheduler().setFrameBudgetNanos(frameBudgetNanos);
+        return this;
+    }
+
+    /**
+     * Sets password strength listener, which is called with the strength of the current text now and
+     * after every text change. Strength is updated incrementally from the edited range of the text.
+     *
+     * @param passwordStrengthListener listener or null to stop measuring
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setPasswordStrengthListener(PasswordStrengthListener passwordStrengthListener) {
+        this.passwordStrengthListener = passwordStrengthListener;
+        if (passwordStrengthListener == null) {
+            passwordStrengthMeter = null;
+            return this;
+        }
+        if (passwordStrengthMeter == null) {
+            passwordStrengthMeter = new PasswordStrengthMeter();
+        }
+        CharSequence text = getText();
+        passwordStrengthMeter.update(text == null ? "" : text);
+        passwordStrengthListener.onPasswordStrengthChanged(passwordStrengthMeter);
+        return this;
+    }
+
+    /**
+     * Sets asynchronous validation. When enabled, validation runs on a shared background executor and
+     * only the result of the newest text is delivered to the listener on the main thread.
+     *
+     * @param asyncValidation true - validate off the main thread
+     * @return current ValidationEditText
+     */
+    public ValidationEditText setAsyncValidation(boolean asyncValidation) {
+        this.asyncValidation = asyncValidation;
+        if (!asyncValidation && asyncValidationEngine != null) {
+            asyncValidationEngine.cancel();
+        }
+        return this;
+    }
+
+    /**
+     * Gets count of the validations of this field, which were answered by the regex guard timeout,
+     * see {@link #setRegexGuard(RegexGuard)}.
+     *
+     * @return count of timed out validations
+     */
+    public long getRegexTimedOutCount() {
+        return asyncValidationEngine != null ? asyncValidationEngine.getTimedOutCount() : 0;
+    }
+
     /**
      * Validate input when user stops typing.
      */
     @Override
     protected void onTextChanged(CharSequence text, int start, int lengthBefore, int lengthAfter) {
         super.onTextChanged(text, start, lengthBefore, lengthAfter);
+        // called from the super constructor, before the fields are initialized
+        if (incrementalValidation && characterClassCounter != null) {
+            characterClassCounter.onTextChanged(text, start, lengthBefore, lengthAfter);
+        }
+        if (passwordStrengthMeter != null) {
+            passwordStrengthMeter.onTextChanged(text, start, lengthBefore, lengthAfter);
+            passwordStrengthMeter.update(text);
+            passwordStrengthListener.onPasswordStrengthChanged(passwordStrengthMeter);
+        }
         if (validateWhenTextChanged) {
-            validate(false);
-            if (editTextHandler != null && showErrorMessageWhenStoppedTyping) {
-                editTextHandler.removeCallbacks(stoppedToWriteChecker);
-                lastTimeWhenTextChanged = System.currentTimeMillis();
-                editTextHandler.postDelayed(stoppedToWriteChecker, delayWhenStopsTyping);
+            if (frameValidation) {
+                getFrameValidationScheduler().onTextChanged();
+            } else {
+                validate(false);
+            }
+            if (showErrorMessageWhenStoppedTyping) {
+                if (validationGroup != null) {
+                    validationGroup.scheduleStoppedTyping(this, SystemClock.uptimeMillis() + delayWhenStopsTyping);
+                } else {
+                    getTypingDebouncer().onTextChanged();
+                }
             }
         }
     }
 
-    private Runnable stoppedToWriteChecker = new Runnable() {
-        public void run() {
-            if (System.currentTimeMillis() > (lastTimeWhenTextChanged + delayWhenStopsTyping - 500)) {
-                validate(true);
-            }
-        }
-    };
+    ValidationGroup getValidationGroup() {
+        return validationGroup;
+    }
+
+    void setValidationGroup(ValidationGroup validationGroup) {
+        this.validationGroup = validationGroup;
+    }
 
     /**
-     * Validate input when user stops typing.
+     * @return this field in the ValidationGroup, which validates it, when user stops typing
      */
-
-    @Override
-    protected void onFocusChanged(boolean focused, int direction, Rect previouslyFocusedRect) {
-        super.onFocusChanged(focused, direction, previouslyFocusedRect);
-        if (!focused && validateWhenTextChanged && showErrorMessageWhenStoppedTyping) {
-            validate(true);
+    FieldGroup.Field getGroupField() {
+        if (groupField == null) {
+            groupField = new FieldGroup.Field() {
+                @Override
+                public void onStoppedTyping() {
+                    validate(true);
+                }
+            };
         }
+        return groupField;
     }
 
     /**
-     * Validating editText field, when text changed.
+     * Checks the current text without notifying the listener. With a guard timeout the regex checks
+     * must not run on the main thread, so the text is validated asynchronously instead and the group is
+     * updated from the result: until then the field is invalid.
      *
-     * @param showErrorMessage show error message in editText? true - show
+     * @return true if the current text is valid, otherwise false
      */
-    private void validate(boolean showErrorMessage) {
-        if (!isNotEmpty() && activeValidators.contains(ValidationSettings.NOT_EMPTY)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getNotEmptyErrorMessage());
-            return;
-        }
-
-        if (!isEmail() && activeValidators.contains(ValidationSettings.EMAIL)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getEmailErrorMessage());
-            return;
+    boolean isCurrentTextValid() {
+        if (isTimeoutGuarded()) {
+            validate(false);
+            return false;
         }
+        CharSequence text = getText();
+        return validationEvaluator.validate(text != null ? text : "") == null;
+    }
 
-        if (!isOnlyLetters() && activeValidators.contains(ValidationSettings.ONLY_LETTERS)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getOnlyLettersErrorMessage());
-            return;
+    private Handler getEditTextHandler() {
+        if (editTextHandler == null) {
+            editTextHandler = new Handler();
         }
+        return editTextHandler;
+    }
 
-        if (!isOnlyLettersWithSpaces() && activeValidators.contains(ValidationSettings.ONLY_LETTERS_WITH_SPACES)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getOnlyLettersWithSpacesErrorMessage());
-            return;
-        }
+    private TypingDebouncer.Scheduler getHandlerScheduler() {
+        if (handlerScheduler == null) {
+            final Handler handler = getEditTextHandler();
+            handlerScheduler = new TypingDebouncer.Scheduler() {
+                @Override
+                public void postAtTime(Runnable callback, long uptimeMillis) {
+                    handler.postAtTime(callback, uptimeMillis);
+                }
 
-        if (!isOnlyLatinLetters() && activeValidators.contains(ValidationSettings.ONLY_LATIN_LETTERS)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getOnlyLatinLettersErrorMessage());
-            return;
+                @Override
+                public void removeCallbacks(Runnable callback) {
+                    handler.removeCallbacks(callback);
+                }
+            };
         }
+        return handlerScheduler;
+    }
 
-        if (!isOnlyLatinLetterWithSpaces() && activeValidators.contains(ValidationSettings.ONLY_LATIN_LETTERS_WITH_SPACES)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getOnlyLatinLettersWithSpacesErrorMessage());
-            return;
+    private AsyncValidationEngine getAsyncValidationEngine() {
+        if (asyncValidationEngine == null) {
+            final Handler handler = getEditTextHandler();
+            asyncValidationEngine = new AsyncValidationEngine(AsyncValidationEngine.sharedExecutor(),
+                    AsyncValidationEngine.guardedExecutor(),
+                    new Executor() {
+                        @Override
+                        public void execute(Runnable command) {
+                            handler.post(command);
+                        }
+                    },
+                    getHandlerScheduler(),
+                    UPTIME_CLOCK);
         }
+        return asyncValidationEngine;
+    }
 
-        if (!isAlphanumeric() && activeValidators.contains(ValidationSettings.ALPHANUMERIC)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getAlphanumericErrorMessage());
-            return;
-        }
+    /**
+     * @return true if a regex check of the plan has a guard timeout, which only async validation enforces
+     */
+    private boolean isTimeoutGuarded() {
+        RegexGuard guard = validationPlan.getRegexGuard();
+        return guard != null && guard.getTimeoutMillis() != 0;
+    }
 
-        if (!isOnlyDigits() && activeValidators.contains(ValidationSettings.ONLY_DIGITS)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getOnlyDigitsErrorMessage());
-            return;
+    private TypingDebouncer getTypingDebouncer() {
+        if (typingDebouncer == null) {
+            typingDebouncer = new TypingDebouncer(
+                    UPTIME_CLOCK,
+                    getHandlerScheduler(),
+                    delayWhenStopsTyping,
+                    new Runnable() {
+                        @Override
+                        public void run() {
+                            validate(true);
+                        }
+                    });
         }
+        return typingDebouncer;
+    }
 
-        if (!isLessThanOrEqualToTheMaxLength(this.customValidator.getMaxLength()) && activeValidators.contains(ValidationSettings.MAX_LENGTH)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getMaxLengthErrorMessage());
-            return;
-        }
+    private FrameValidationScheduler getFrameValidationScheduler() {
+        if (frameValidationScheduler == null) {
+            final Choreographer choreographer = Choreographer.getInstance();
+            final Handler handler = getEditTextHandler();
+            final Runnable afterTraversal = new Runnable() {
+                @Override
+                public void run() {
+                    frameValidationScheduler.doFrame(frameTimeNanos, System.nanoTime());
+                }
+            };
+            final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    // queued behind the traversal of this frame, so validation does not delay the draw
+                    ValidationEditText.this.frameTimeNanos = frameTimeNanos;
+                    handler.post(afterTraversal);
+                }
+            };
+            frameValidationScheduler = new FrameValidationScheduler(
+                    new FrameValidationScheduler.FrameScheduler() {
+                        @Override
+                        public void postFrameCallback() {
+                            choreographer.postFrameCallback(frameCallback);
+                        }
 
-        if (!isGreaterThanOrEqualToMinLength(this.customValidator.getMinLength()) && activeValidators.contains(ValidationSettings.MIN_LENGTH)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getMinLengthErrorMessage());
-            return;
+                        @Override
+                        public void removeFrameCallback() {
+                            choreographer.removeFrameCallback(frameCallback);
+                            handler.removeCallbacks(afterTraversal);
+                        }
+                    },
+                    new Runnable() {
+                        @Override
+                        public void run() {
+                            validate(false);
+                        }
+                    });
         }
+        return frameValidationScheduler;
+    }
 
-        if (!isLowercase() && activeValidators.contains(ValidationSettings.ALL_LOWERCASE)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getLowercaseErrorMessage());
-            return;
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        if (asyncValidationEngine != null) {
+            asyncValidationEngine.cancel();
         }
-
-        if (!isUppercase() && activeValidators.contains(ValidationSettings.ALL_UPPERCASE)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getUppercaseErrorMessage());
-            return;
+        if (validationGroup != null) {
+            validationGroup.cancelStoppedTyping(this);
         }
-
-        if (!hasAtLeastOneLowercase() && activeValidators.contains(ValidationSettings.AT_LEAST_ONE_LOWERCASE)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getAtLeastOneLowercaseErrorMessage());
-            return;
+        if (typingDebouncer != null) {
+            typingDebouncer.cancel();
         }
-
-        if (!hasAtLeastOneUppercase() && activeValidators.contains(ValidationSettings.AT_LEAST_ONE_UPPERCASE)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getAtLeastOneUppercaseErrorMessage());
-            return;
+        if (frameValidationScheduler != null) {
+            frameValidationScheduler.cancel();
         }
+    }
 
-        if (!hasAtLeastOneDigit() && activeValidators.contains(ValidationSettings.AT_LEAST_ONE_DIGIT)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getAtLeastOneDigitErrorMessage());
-            return;
-        }
+    /**
+     * Validate input when user stops typing.
+     */
 
-        if (!hasAtLeastOneSpecialCharacter() && activeValidators.contains(ValidationSettings.AT_LEAST_ONE_SPECIAL_CHARACTER)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getAtLeastOneSpecialCharacterErrorMessage());
-            return;
+    @Override
+    protected void onFocusChanged(boolean focused, int direction, Rect previouslyFocusedRect) {
+        super.onFocusChanged(focused, direction, previouslyFocusedRect);
+        if (!focused && validateWhenTextChanged && showErrorMessageWhenStoppedTyping) {
+            validate(true);
         }
+    }
 
-        if (!hasAtLeastOneLetter() && activeValidators.contains(ValidationSettings.AT_LEAST_ONE_LETTER)) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getAtLeastOneLetterErrorMessage());
-            return;
+    /**
+     * Validating editText field, when text changed.
+     *
+     * @param showErrorMessage show error message in editText? true - show
+     */
+    private void validate(boolean showErrorMessage) {
+        CharSequence text = getText();
+        if (text == null) {
+            text = "";
         }
-
-        if (!isValidPostalCode(this.postalCodeRegex) && activeValidators.contains(ValidationSettings.VALID_POSTAL_CODE) && !postalCodeRegex.equals("")) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getPostalCodeErrorMessage());
+        if (asyncValidation || isTimeoutGuarded()) {
+            getAsyncValidationEngine().submit(validationPlan, text, validationListeners.isFailuresNeeded(),
+                    showErrorMessage ? showErrorMessageCallback : hideErrorMessageCallback);
             return;
         }
-
-        if (!isOnlyCustomRegex(onlyCustomRegex) && activeValidators.contains(ValidationSettings.ONLY_CUSTOM_REGEX) && !onlyCustomRegex.equals("")) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getOnlyCustomRegexErrorMessage());
-            return;
+        // all character class rules are answered from one scan of the text
+        int summary = 0;
+        if (validationPlan.isCharacterClassesNeeded()) {
+            summary = incrementalValidation ? characterClassCounter.summary(text) : CharacterClasses.scan(text);
         }
 
-        if (!hasAtLeastOneCustomRegex(atLeastOneRegex) && activeValidators.contains(ValidationSettings.AT_LEAST_ONE_CUSTOM_REGEX) && !atLeastOneRegex.equals("")) {
-            sendValidationResponse(showErrorMessage, false, customValidator.getAtLeastOneCustomRegexErrorMessage());
+        if (validationListeners.isFailuresNeeded()) {
+            // one pass over all rules serves the failures listeners and the first failure
+            ValidationFailures failures = validationEvaluator.evaluateAll(text, summary);
+            sendValidationResponse(showErrorMessage, failures.getFirst(), validationEvaluator.isTimedOut(), failures);
             return;
         }
-
-        sendValidationResponse(showErrorMessage, true, CORRECT_MESSAGE);
+        ValidationResult result = validationEvaluator.evaluate(text, summary);
+        sendValidationResponse(showErrorMessage, result, validationEvaluator.isTimedOut(), null);
     }
 
     /**
-     * Sends validation response to user app
+     * Sends validation response to user app. Listener is notified only when the response differs from
+     * the last one, unless every validation is notified. Error is set only when it changes.
+     * Response message is built only when a message listener or the error needs it.
      *
      * @param showErrorMessage show or hide error message
-     * @param validField       is valid field response to user
-     * @param responseMessage  response message to user
+     * @param result           interned validation result
+     * @param timedOut         custom regex ran out of its budget, result is its failure
+     * @param failures         all failed rules or null, if failures listeners are not notified
      */
-    private void sendValidationResponse(boolean showErrorMessage, boolean validField, String responseMessage) {
-        if (editTextResponseListener != null) {
-            editTextResponseListener.onValidationResponse(validField, responseMessage);
+    private void sendValidationResponse(boolean showErrorMessage, ValidationResult result, boolean timedOut,
+                                        ValidationFailures failures) {
+        boolean validField = result.isValid();
+        if (validationGroup != null) {
+            validationGroup.onFieldValidated(this, validField);
+        }
+        String responseMessage = null;
+        if (validationListeners.isMessageNeeded() || (showErrorMessage && !validField)) {
+            responseMessage = validField ? CORRECT_MESSAGE
+                    : timedOut ? customValidator.getTimedOutErrorMessage() : result.getMessage(customValidator);
+        }
+        // message of the same result changes only with the CustomValidator settings. Failures and message,
+        // which were not built for the last response, are not compared, their new listeners get them below.
+        // Every asynchronous run has its own evaluator, so failures are compared by the mask
+        boolean changed = !hasLastResponse || lastResult != result || lastTimedOut != timedOut
+                || (failures != null && lastFailures != null && failures.getMask() != lastFailures.getMask())
+                || (responseMessage != null && lastResponseMessage != null
+                && !sameText(responseMessage, lastResponseMessage));
+        if (changed) {
+            hasLastResponse = true;
+            lastResult = result;
+            lastTimedOut = timedOut;
+        }
+        lastFailures = failures;
+        lastResponseMessage = responseMessage;
+        if (changed || notifyEveryValidation) {
+            ValidationMetrics metrics = validationPlan.getMetrics();
+            if (metrics == null) {
+                validationListeners.dispatch(result, responseMessage, failures);
+            } else {
+                long dispatchStart = System.nanoTime();
+                validationListeners.dispatch(result, responseMessage, failures);
+                metrics.recordDispatch(System.nanoTime() - dispatchStart);
+            }
+        } else if (addedRegistrations != null) {
+            for (ValidationListeners.Registration registration : addedRegistrations) {
+                validationListeners.dispatch(registration, result, responseMessage, failures);
+            }
         }
+        addedRegistrations = null;
         if (showErrorMessage) {
+            CharSequence error = getError();
             if (validField) {
-                setError(null);
-            } else {
+                if (error != null) {
+                    setError(null);
+                }
+            } else if (error == null || !sameText(responseMessage, error)) {
                 setError(responseMessage);
             }
         }
     }
 
+    private static boolean sameText(String text, CharSequence other) {
+        return text == null ? other == null : other != null && text.contentEquals(other);
+    }
+
     /* validation methods */
 
     /**
@@ -325,7 +1021,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isNotEmpty() {
         if (this.getText() != null) {
-            return customValidator.isNotEmpty(this.getText().toString());
+            return customValidator.isNotEmpty(this.getText());
         }
         return false;
     }
@@ -337,7 +1033,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isEmail() {
         if (this.getText() != null) {
-            return customValidator.isEmail(this.getText().toString());
+            return customValidator.isEmail(this.getText(), emailStrictness);
         }
         return false;
     }
@@ -349,7 +1045,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isOnlyLetters() {
         if (this.getText() != null) {
-            return customValidator.isOnlyLetters(this.getText().toString());
+            return customValidator.isOnlyLetters(this.getText());
         }
         return false;
     }
@@ -361,7 +1057,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isOnlyLettersWithSpaces() {
         if (this.getText() != null) {
-            return customValidator.isOnlyLettersWithSpaces(this.getText().toString());
+            return customValidator.isOnlyLettersWithSpaces(this.getText());
         }
         return false;
     }
@@ -373,7 +1069,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isOnlyLatinLetters() {
         if (this.getText() != null) {
-            return customValidator.isOnlyLatinLetters(this.getText().toString());
+            return customValidator.isOnlyLatinLetters(this.getText());
         }
         return false;
     }
@@ -385,7 +1081,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isOnlyLatinLetterWithSpaces() {
         if (this.getText() != null) {
-            return customValidator.isOnlyLatinLetterWithSpaces(this.getText().toString());
+            return customValidator.isOnlyLatinLetterWithSpaces(this.getText());
         }
         return false;
     }
@@ -397,7 +1093,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isAlphanumeric() {
         if (this.getText() != null) {
-            return customValidator.isAlphanumeric(this.getText().toString());
+            return customValidator.isAlphanumeric(this.getText());
         }
         return false;
     }
@@ -409,7 +1105,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isOnlyDigits() {
         if (this.getText() != null) {
-            return customValidator.isOnlyDigits(this.getText().toString());
+            return customValidator.isOnlyDigits(this.getText());
         }
         return false;
     }
@@ -422,7 +1118,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isLessThanOrEqualToTheMaxLength(int maxLength) {
         if (this.getText() != null) {
-            return customValidator.isLessThanOrEqualToTheMaxLength(this.getText().toString(), maxLength);
+            return ownCustomValidator().isLessThanOrEqualToTheMaxLength(this.getText(), maxLength);
         }
         return false;
     }
@@ -435,7 +1131,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isGreaterThanOrEqualToMinLength(int minLength) {
         if (this.getText() != null) {
-            return customValidator.isGreaterThanOrEqualToMinLength(this.getText().toString(), minLength);
+            return ownCustomValidator().isGreaterThanOrEqualToMinLength(this.getText(), minLength);
         }
         return false;
     }
@@ -447,7 +1143,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isLowercase() {
         if (this.getText() != null) {
-            return customValidator.isLowercase(this.getText().toString());
+            return customValidator.isLowercase(this.getText());
         }
         return false;
     }
@@ -459,7 +1155,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isUppercase() {
         if (this.getText() != null) {
-            return customValidator.isUppercase(this.getText().toString());
+            return customValidator.isUppercase(this.getText());
         }
         return false;
     }
@@ -471,7 +1167,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean hasAtLeastOneLowercase() {
         if (this.getText() != null) {
-            return customValidator.hasAtLeastOneLowercase(this.getText().toString());
+            return customValidator.hasAtLeastOneLowercase(this.getText());
         }
         return false;
     }
@@ -483,7 +1179,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean hasAtLeastOneUppercase() {
         if (this.getText() != null) {
-            return customValidator.hasAtLeastOneUppercase(this.getText().toString());
+            return customValidator.hasAtLeastOneUppercase(this.getText());
         }
         return false;
     }
@@ -495,7 +1191,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean hasAtLeastOneDigit() {
         if (this.getText() != null) {
-            return customValidator.hasAtLeastOneDigit(this.getText().toString());
+            return customValidator.hasAtLeastOneDigit(this.getText());
         }
         return false;
     }
@@ -507,7 +1203,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean hasAtLeastOneSpecialCharacter() {
         if (this.getText() != null) {
-            return customValidator.hasAtLeastOneSpecialCharacter(this.getText().toString());
+            return customValidator.hasAtLeastOneSpecialCharacter(this.getText());
         }
         return false;
     }
@@ -519,7 +1215,7 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean hasAtLeastOneLetter() {
         if (this.getText() != null) {
-            return customValidator.hasAtLeastOneLetter(this.getText().toString());
+            return customValidator.hasAtLeastOneLetter(this.getText());
         }
         return false;
     }
@@ -531,7 +1227,20 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isValidPostalCode(String postalCodeRegex) {
         if (this.getText() != null) {
-            return customValidator.isValidPostalCode(this.getText().toString(), postalCodeRegex);
+            return customValidator.isValidPostalCode(this.getText(), postalCodeRegex);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the ValidationEditText is valid postal code.
+     *
+     * @param postalCodePattern compiled pattern
+     * @return true if the ValidationEditText is valid postal code, otherwise false
+     */
+    public boolean isValidPostalCode(Pattern postalCodePattern) {
+        if (this.getText() != null) {
+            return customValidator.isValidPostalCode(this.getText(), postalCodePattern);
         }
         return false;
     }
@@ -543,7 +1252,20 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean isOnlyCustomRegex(String onlyCustomRegex) {
         if (this.getText() != null) {
-            return customValidator.isOnlyCustomRegex(this.getText().toString(), onlyCustomRegex);
+            return customValidator.isOnlyCustomRegex(this.getText(), onlyCustomRegex);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the ValidationEditText contains only custom regex.
+     *
+     * @param onlyCustomPattern compiled pattern
+     * @return true if the ValidationEditText contains only custom regex, otherwise false
+     */
+    public boolean isOnlyCustomRegex(Pattern onlyCustomPattern) {
+        if (this.getText() != null) {
+            return customValidator.isOnlyCustomRegex(this.getText(), onlyCustomPattern);
         }
         return false;
     }
@@ -555,7 +1277,20 @@ public class ValidationEditText extends AppCompatEditText {
      */
     public boolean hasAtLeastOneCustomRegex(String atLeastOneRegex) {
         if (this.getText() != null) {
-            return customValidator.hasAtLeastOneCustomRegex(this.getText().toString(), atLeastOneRegex);
+            return customValidator.hasAtLeastOneCustomRegex(this.getText(), atLeastOneRegex);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the ValidationEditText has at least one custom regex character.
+     *
+     * @param atLeastOnePattern compiled pattern
+     * @return true if the ValidationEditText has at least one custom regex character, otherwise false
+     */
+    public boolean hasAtLeastOneCustomRegex(Pattern atLeastOnePattern) {
+        if (this.getText() != null) {
+            return customValidator.hasAtLeastOneCustomRegex(this.getText(), atLeastOnePattern);
         }
         return false;
     }
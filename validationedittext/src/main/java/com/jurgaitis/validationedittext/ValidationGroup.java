@@ -0,0 +1,105 @@
+package com.jurgaitis.validationedittext;
+
+import android.os.Handler;
+
+/**
+ * Group of ValidationEditText fields, e.g. a form.
+ * <p>
+ * "Stopped typing" checks of all fields are driven by a single Handler callback, which is posted for
+ * the earliest deadline of the group. Typing only moves the deadline of the field, so keystrokes do not
+ * remove and post callbacks. Validity of the group is kept as a running count of invalid fields, so
+ * {@link #isValid()} takes constant time.
+ * <p>
+ * Group must be used on the main thread.
+ */
+public class ValidationGroup {
+    private final FieldGroup fieldGroup;
+
+    public ValidationGroup() {
+        this(new Handler());
+    }
+
+    /**
+     * @param handler handler of the main thread, which runs "stopped typing" checks
+     */
+    public ValidationGroup(final Handler handler) {
+        fieldGroup = new FieldGroup(ValidationEditText.UPTIME_CLOCK, new TypingDebouncer.Scheduler() {
+            @Override
+            public void postAtTime(Runnable callback, long uptimeMillis) {
+                handler.postAtTime(callback, uptimeMillis);
+            }
+
+            @Override
+            public void removeCallbacks(Runnable callback) {
+                handler.removeCallbacks(callback);
+            }
+        });
+    }
+
+    /**
+     * Adds fields to the group. Field can belong to a single group.
+     *
+     * @param fields fields
+     * @return current ValidationGroup
+     */
+    public ValidationGroup add(ValidationEditText... fields) {
+        for (ValidationEditText field : fields) {
+            ValidationGroup current = field.getValidationGroup();
+            if (current == this) {
+                continue;
+            }
+            if (current != null) {
+                current.remove(field);
+            }
+            field.setValidationGroup(this);
+            fieldGroup.add(field.getGroupField(), field.isCurrentTextValid());
+        }
+        return this;
+    }
+
+    /**
+     * Removes the field from the group.
+     *
+     * @param field field
+     */
+    public void remove(ValidationEditText field) {
+        if (field.getValidationGroup() != this) {
+            return;
+        }
+        fieldGroup.remove(field.getGroupField());
+        field.setValidationGroup(null);
+    }
+
+    /**
+     * @return true if all fields of the group are valid, otherwise false
+     */
+    public boolean isValid() {
+        return fieldGroup.isValid();
+    }
+
+    /**
+     * @return count of invalid fields
+     */
+    public int getInvalidCount() {
+        return fieldGroup.getInvalidCount();
+    }
+
+    /**
+     * @return count of fields
+     */
+    public int size() {
+        return fieldGroup.size();
+    }
+
+    void onFieldValidated(ValidationEditText field, boolean valid) {
+        fieldGroup.onFieldValidated(field.getGroupField(), valid);
+    }
+
+    void scheduleStoppedTyping(ValidationEditText field, long deadline) {
+        fieldGroup.scheduleStoppedTyping(field.getGroupField(), deadline);
+    }
+
+    void cancelStoppedTyping(ValidationEditText field) {
+        fieldGroup.cancelStoppedTyping(field.getGroupField());
+    }
+}
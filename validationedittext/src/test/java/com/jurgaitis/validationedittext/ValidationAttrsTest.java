@@ -0,0 +1,82 @@
+package com.jurgaitis.validationedittext;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.io.File;
+import java.net.URISyntaxException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ValidationAttrsTest {
+    /**
+     * attrs.xml, relative to this module
+     */
+    private static final String ATTRS_PATH = "src/main/res/values/attrs.xml";
+    private static final String MODULE_NAME = "validationedittext";
+
+    @Test
+    public void validatorsFlags_equalRuleMasks() throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(findAttrsFile());
+        NodeList flags = document.getElementsByTagName("flag");
+        assertEquals(ValidationRule.values().length, flags.getLength());
+        for (int i = 0; i < flags.getLength(); i++) {
+            Element flag = (Element) flags.item(i);
+            ValidationRule rule = ValidationRule.valueOf(toConstantName(flag.getAttribute("name")));
+            assertEquals(rule.name(), rule.mask(), Integer.decode(flag.getAttribute("value")).intValue());
+        }
+    }
+
+    @Test
+    public void attrs_arePrefixed() throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(findAttrsFile());
+        NodeList attrs = document.getElementsByTagName("attr");
+        for (int i = 0; i < attrs.getLength(); i++) {
+            String name = ((Element) attrs.item(i)).getAttribute("name");
+            assertTrue(name, name.startsWith("vet_"));
+        }
+    }
+
+    /**
+     * Finds attrs.xml from the test classes or the working directory, so the test does not depend on
+     * the directory it is run from.
+     */
+    private static File findAttrsFile() throws URISyntaxException {
+        File classes = new File(ValidationAttrsTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        for (File start : new File[]{classes, new File(System.getProperty("user.dir")).getAbsoluteFile()}) {
+            for (File dir = start; dir != null; dir = dir.getParentFile()) {
+                File file = new File(dir, ATTRS_PATH);
+                if (dir.getName().equals(MODULE_NAME) && file.isFile()) {
+                    return file;
+                }
+                file = new File(new File(dir, MODULE_NAME), ATTRS_PATH);
+                if (file.isFile()) {
+                    return file;
+                }
+            }
+        }
+        fail("attrs.xml of the " + MODULE_NAME + " module is not found");
+        return null;
+    }
+
+    /**
+     * onlyLatinLetters -> ONLY_LATIN_LETTERS
+     */
+    private static String toConstantName(String attributeName) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < attributeName.length(); i++) {
+            char c = attributeName.charAt(i);
+            if (Character.isUpperCase(c)) {
+                builder.append('_');
+            }
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString();
+    }
+}